@@ -2,25 +2,79 @@ package ua.procamp;
 
 import ua.procamp.exception.EntityNotFoundException;
 import ua.procamp.model.Account;
+import ua.procamp.sketch.HyperLogLog;
+import ua.procamp.sketch.QuantileSketch;
 
 import java.math.BigDecimal;
 import java.time.Month;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 /**
- * Implement methods using Stream API
+ * {@link AccountAnalytics} provides queries over a collection of {@link Account} objects, implemented using Stream API.
+ * Each query is backed by an {@link AccountMetric}, so a set of queries can be computed in one pass with
+ * {@link AccountAnalytics#report(AccountMetric[])}. Queries can be executed either sequentially, or in parallel using
+ * a {@link ForkJoinPool}. Point lookups can be served by {@link AccountIndex} hash indexes built on creation.
  */
 public class AccountAnalytics {
     private Collection<Account> accounts;
+    private ForkJoinPool pool;
+    private Map<String, Account> accountsByEmail;
+    private Set<String> emailDomains;
+    private Map<Long, Account> accountsById;
 
     public static AccountAnalytics of(Collection<Account> accounts) {
-        return new AccountAnalytics(accounts);
+        return new AccountAnalytics(accounts, null);
     }
 
-    private AccountAnalytics(Collection<Account> accounts) {
+    /**
+     * Creates {@link AccountAnalytics} and builds provided indexes, so the queries that use them don't scan accounts.
+     *
+     * @param accounts a collection of accounts
+     * @param indexes  indexes to build
+     * @return new indexed analytics
+     */
+    public static AccountAnalytics of(Collection<Account> accounts, AccountIndex... indexes) {
+        return new AccountAnalytics(accounts, null, indexes);
+    }
+
+    /**
+     * Creates {@link AccountAnalytics} that executes every query as a parallel stream in the provided pool. The
+     * collection is split, and partial results are merged, so for a collection with defined encounter order (e.g.
+     * {@link List}) all results are identical to the sequential ones, including the order of lists. The pool is owned
+     * by the caller, that shuts it down when it's no longer needed.
+     *
+     * @param accounts a collection of accounts
+     * @param pool     a pool that executes queries
+     * @param indexes  indexes to build
+     * @return new parallel analytics
+     */
+    public static AccountAnalytics of(Collection<Account> accounts, ForkJoinPool pool, AccountIndex... indexes) {
+        return new AccountAnalytics(accounts, Objects.requireNonNull(pool), indexes);
+    }
+
+    private AccountAnalytics(Collection<Account> accounts, ForkJoinPool pool, AccountIndex... indexes) {
         this.accounts = accounts;
+        this.pool = pool;
+        Set<AccountIndex> indexSet = EnumSet.noneOf(AccountIndex.class);
+        indexSet.addAll(Arrays.asList(indexes));
+        if (indexSet.contains(AccountIndex.EMAIL)) {
+            accountsByEmail = execute(() -> stream().collect(toMap(Account::getEmail, identity(), (first, second) -> first)));
+        }
+        if (indexSet.contains(AccountIndex.EMAIL_DOMAIN)) {
+            emailDomains = execute(() -> stream().map(AccountMetric::emailDomain).collect(toSet()));
+        }
+        if (indexSet.contains(AccountIndex.ID)) {
+            accountsById = collect(AccountMetric.ACCOUNTS_BY_ID);
+        }
     }
 
     /**
@@ -29,7 +83,7 @@ public class AccountAnalytics {
      * @return account with max balance wrapped with optional
      */
     public Optional<Account> findRichestPerson() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.RICHEST_PERSON);
     }
 
     /**
@@ -39,7 +93,7 @@ public class AccountAnalytics {
      * @return a list of accounts
      */
     public List<Account> findAccountsByBirthdayMonth(Month birthdayMonth) {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.accountsByBirthdayMonth(birthdayMonth));
     }
 
     /**
@@ -49,7 +103,7 @@ public class AccountAnalytics {
      * @return a map where key is true or false, and value is list of male, and female accounts
      */
     public Map<Boolean, List<Account>> partitionMaleAccounts() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.MALE_ACCOUNTS);
     }
 
     /**
@@ -59,7 +113,7 @@ public class AccountAnalytics {
      * @return a map where key is an email domain and value is a list of all account with such email
      */
     public Map<String, List<Account>> groupAccountsByEmailDomain() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.ACCOUNTS_BY_EMAIL_DOMAIN);
     }
 
     /**
@@ -68,7 +122,7 @@ public class AccountAnalytics {
      * @return total number of letters of first and last names of all accounts
      */
     public int getNumOfLettersInFirstAndLastNames() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.NUM_OF_LETTERS_IN_FIRST_AND_LAST_NAMES);
     }
 
     /**
@@ -77,7 +131,7 @@ public class AccountAnalytics {
      * @return total balance of all accounts
      */
     public BigDecimal calculateTotalBalance() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.TOTAL_BALANCE);
     }
 
     /**
@@ -86,7 +140,7 @@ public class AccountAnalytics {
      * @return list of accounts sorted by first and last names
      */
     public List<Account> sortByFirstAndLastNames() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.SORTED_BY_FIRST_AND_LAST_NAMES);
     }
 
     /**
@@ -96,7 +150,12 @@ public class AccountAnalytics {
      * @return true if there is an account that has an email with provided domain
      */
     public boolean containsAccountWithEmailDomain(String emailDomain) {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        if (emailDomains != null) {
+            return emailDomains.contains(emailDomain);
+        }
+        return execute(() -> stream()
+                .map(AccountMetric::emailDomain)
+                .anyMatch(emailDomain::equals));
     }
 
     /**
@@ -107,16 +166,26 @@ public class AccountAnalytics {
      * @return account balance
      */
     public BigDecimal getBalanceByEmail(String email) {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        Optional<Account> account = accountsByEmail != null
+                ? Optional.ofNullable(accountsByEmail.get(email))
+                : execute(() -> stream().filter(a -> a.getEmail().equals(email)).findFirst());
+        return account
+                .map(Account::getBalance)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Cannot find Account by email=%s", email)));
     }
 
     /**
-     * Collects all existing accounts into a {@link Map} where a key is account id, and the value is {@link Account} instance
+     * Collects all existing accounts into a {@link Map} where a key is account id, and the value is {@link Account} instance.
+     * If {@link AccountIndex#ID} was built, the index itself is returned as an unmodifiable map, so the call takes
+     * constant time.
      *
      * @return map of accounts by its ids
      */
     public Map<Long, Account> collectAccountsById() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        if (accountsById != null) {
+            return Collections.unmodifiableMap(accountsById);
+        }
+        return collect(AccountMetric.ACCOUNTS_BY_ID);
     }
 
     /**
@@ -127,7 +196,7 @@ public class AccountAnalytics {
      * @return map of account by its ids the were created in a particular year
      */
     public Map<String, BigDecimal> collectBalancesByIdForAccountsCreatedOn(int year) {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.balancesByEmailForAccountsCreatedOn(year));
     }
 
     /**
@@ -137,7 +206,7 @@ public class AccountAnalytics {
      * @return a map where key is a first name and value is a set of first names
      */
     public Map<String, Set<String>> groupFirstNamesByLastNames() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.FIRST_NAMES_BY_LAST_NAMES);
     }
 
     /**
@@ -147,7 +216,7 @@ public class AccountAnalytics {
      * @return a map where a key is a birthday month and value is comma-separated first names
      */
     public Map<Month, String> groupCommaSeparatedFirstNamesByBirthdayMonth() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.COMMA_SEPARATED_FIRST_NAMES_BY_BIRTHDAY_MONTH);
     }
 
     /**
@@ -157,7 +226,7 @@ public class AccountAnalytics {
      * @return a map where key is a creation month and value is total balance of all accounts created in that month
      */
     public Map<Month, BigDecimal> groupTotalBalanceByCreationMonth() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return collect(AccountMetric.TOTAL_BALANCE_BY_CREATION_MONTH);
     }
 
     /**
@@ -167,7 +236,17 @@ public class AccountAnalytics {
      * @return a map where key is a letter and value is its count in all first names
      */
     public Map<Character, Long> getCharacterFrequencyInFirstNames() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return getCharacterHistogramInFirstNames().toMap();
+    }
+
+    /**
+     * Returns a {@link CharHistogram} of letters in {@link Account#firstName}. Unlike
+     * {@link AccountAnalytics#getCharacterFrequencyInFirstNames()}, it counts letters in primitive arrays without boxing.
+     *
+     * @return a histogram of letters in all first names
+     */
+    public CharHistogram getCharacterHistogramInFirstNames() {
+        return collect(AccountMetric.CHARACTER_HISTOGRAM_IN_FIRST_NAMES);
     }
 
     /**
@@ -177,8 +256,137 @@ public class AccountAnalytics {
      * @return a map where key is a letter and value is its count ignoring case in all first and last names
      */
     public Map<Character, Long> getCharacterFrequencyIgnoreCaseInFirstAndLastNames() {
-        throw new UnsupportedOperationException("It's your job to implement this method"); // todo
+        return getCharacterHistogramIgnoreCaseInFirstAndLastNames().toMap();
+    }
+
+    /**
+     * Returns a {@link CharHistogram} of lower case letters in all {@link Account#firstName} and {@link Account#lastName}.
+     * Unlike {@link AccountAnalytics#getCharacterFrequencyIgnoreCaseInFirstAndLastNames()}, it counts letters in
+     * primitive arrays without boxing.
+     *
+     * @return a histogram of letters ignoring case in all first and last names
+     */
+    public CharHistogram getCharacterHistogramIgnoreCaseInFirstAndLastNames() {
+        return collect(AccountMetric.CHARACTER_HISTOGRAM_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES);
+    }
+
+    /**
+     * Returns {@code k} accounts with the highest balance, ordered by balance from the highest. Accounts with equal
+     * balance keep their order in the collection. It uses a bounded heap of {@code k} accounts instead of sorting.
+     *
+     * @param k a number of accounts
+     * @return a list of at most k richest accounts
+     */
+    public List<Account> findTopKRichest(int k) {
+        return collect(AccountMetric.topKRichest(k));
+    }
+
+    /**
+     * Returns an estimated number of distinct email domains, computed by {@link HyperLogLog} with 2^14 registers
+     * (about 0.8% standard error).
+     *
+     * @return estimated number of distinct email domains
+     */
+    public long estimateDistinctEmailDomains() {
+        return collect(AccountMetric.distinctEmailDomains(14));
+    }
+
+    /**
+     * Returns {@code k} most frequent last names with their estimated counts, ordered by count from the highest. Counts
+     * are estimated by a Count-Min sketch, so they can be slightly higher than the real ones.
+     *
+     * @param k a number of last names
+     * @return a map where key is a last name and value is its estimated count
+     */
+    public Map<String, Long> estimateHeavyHitterLastNames(int k) {
+        return collect(AccountMetric.heavyHitterLastNames(k, 5, 2048));
     }
 
+    /**
+     * Returns a {@link QuantileSketch} of account balances with 1% relative accuracy, which can be used to estimate
+     * balance percentiles.
+     *
+     * @return a quantile sketch of balances
+     */
+    public QuantileSketch estimateBalanceQuantiles() {
+        return collect(AccountMetric.balanceQuantiles(0.01, 2048));
+    }
+
+    /**
+     * Computes all provided metrics in a single pass over the accounts. Each value of the returned {@link AccountReport}
+     * is equal to the value returned by the corresponding query method.
+     *
+     * @param metrics metrics to compute
+     * @return a report that holds values of all provided metrics
+     */
+    public AccountReport report(AccountMetric<?>... metrics) {
+        return report(Arrays.asList(metrics));
+    }
+
+    /**
+     * Computes all provided metrics in a single pass over the accounts.
+     *
+     * @param metrics metrics to compute
+     * @return a report that holds values of all provided metrics
+     */
+    public AccountReport report(Collection<AccountMetric<?>> metrics) {
+        return execute(() -> stream().collect(AccountReport.collector(metrics)));
+    }
+
+    /**
+     * Computes provided metrics in a single pass over a stream of accounts, that can be larger than heap. Only bounded
+     * metrics are accepted (see {@link AccountMetric#isBounded()}), so the memory needed to build the report doesn't
+     * depend on the number of accounts. Metrics that need all accounts in memory (sorting, grouping into lists) are
+     * rejected with {@link IllegalArgumentException}. A parallel stream is processed in parallel.
+     *
+     * @param accounts a stream of accounts
+     * @param metrics  bounded metrics to compute
+     * @return a report that holds values of all provided metrics
+     */
+    public static AccountReport streamingReport(Stream<Account> accounts, AccountMetric<?>... metrics) {
+        for (AccountMetric<?> metric : metrics) {
+            if (!metric.isBounded()) {
+                throw new IllegalArgumentException(
+                        String.format("Metric %s cannot be computed in bounded memory", metric));
+            }
+        }
+        return accounts.collect(AccountReport.collector(Arrays.asList(metrics)));
+    }
+
+    /**
+     * Computes provided bounded metrics in a single pass over an iterator of accounts.
+     *
+     * @param accounts an iterator of accounts
+     * @param metrics  bounded metrics to compute
+     * @return a report that holds values of all provided metrics
+     * @see AccountAnalytics#streamingReport(Stream, AccountMetric[])
+     */
+    public static AccountReport streamingReport(Iterator<Account> accounts, AccountMetric<?>... metrics) {
+        return streamingReport(Spliterators.spliteratorUnknownSize(accounts, Spliterator.ORDERED), metrics);
+    }
+
+    /**
+     * Computes provided bounded metrics in a single pass over a spliterator of accounts.
+     *
+     * @param accounts a spliterator of accounts
+     * @param metrics  bounded metrics to compute
+     * @return a report that holds values of all provided metrics
+     * @see AccountAnalytics#streamingReport(Stream, AccountMetric[])
+     */
+    public static AccountReport streamingReport(Spliterator<Account> accounts, AccountMetric<?>... metrics) {
+        return streamingReport(StreamSupport.stream(accounts, false), metrics);
+    }
+
+    private <R> R collect(AccountMetric<R> metric) {
+        return execute(() -> stream().collect(metric.collector()));
+    }
+
+    private Stream<Account> stream() {
+        return pool == null ? accounts.stream() : accounts.parallelStream();
+    }
+
+    private <R> R execute(Supplier<R> query) {
+        return pool == null ? query.get() : pool.invoke(ForkJoinTask.adapt(query::get));
+    }
 }
 
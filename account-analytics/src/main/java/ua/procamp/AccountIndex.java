@@ -0,0 +1,23 @@
+package ua.procamp;
+
+import ua.procamp.model.Account;
+
+/**
+ * Hash indexes that {@link AccountAnalytics} can build once, when it's created, in order to answer point lookups in
+ * constant time instead of scanning all accounts. Indexes are a snapshot of the collection, so they are meant for
+ * account sets that do not change after {@link AccountAnalytics} is created.
+ */
+public enum AccountIndex {
+    /**
+     * Index of accounts by {@link Account#email}. Used by {@link AccountAnalytics#getBalanceByEmail(String)}.
+     */
+    EMAIL,
+    /**
+     * Index of email domains. Used by {@link AccountAnalytics#containsAccountWithEmailDomain(String)}.
+     */
+    EMAIL_DOMAIN,
+    /**
+     * Index of accounts by {@link Account#id}. Used by {@link AccountAnalytics#collectAccountsById()}.
+     */
+    ID
+}
@@ -0,0 +1,270 @@
+package ua.procamp;
+
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+import ua.procamp.sketch.HeavyHitters;
+import ua.procamp.sketch.HyperLogLog;
+import ua.procamp.sketch.QuantileSketch;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.util.*;
+import java.util.stream.Collector;
+
+import static java.util.Comparator.comparing;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.*;
+
+/**
+ * {@link AccountMetric} is a query over a collection of {@link Account} objects, that is expressed as a {@link Collector}.
+ * Each query method of {@link AccountAnalytics} is backed by a metric, so a set of metrics can be computed in one pass
+ * using {@link AccountAnalytics#report(AccountMetric[])}. Parametrized metrics are created with static factory methods,
+ * and are compared by identity, so keep a reference to the metric in order to get its value from {@link AccountReport}.
+ *
+ * @param <R> a type of the metric value
+ */
+public final class AccountMetric<R> {
+    public static final AccountMetric<Optional<Account>> RICHEST_PERSON = bounded("richestPerson",
+            maxBy(comparing(Account::getBalance)));
+
+    public static final AccountMetric<Map<Boolean, List<Account>>> MALE_ACCOUNTS = unbounded("maleAccounts",
+            partitioningBy(a -> a.getSex() == Sex.MALE));
+
+    public static final AccountMetric<Map<String, List<Account>>> ACCOUNTS_BY_EMAIL_DOMAIN = unbounded(
+            "accountsByEmailDomain", groupingBy(AccountMetric::emailDomain));
+
+    public static final AccountMetric<Integer> NUM_OF_LETTERS_IN_FIRST_AND_LAST_NAMES = bounded(
+            "numOfLettersInFirstAndLastNames", summingInt(a -> a.getFirstName().length() + a.getLastName().length()));
+
+    public static final AccountMetric<BigDecimal> TOTAL_BALANCE = bounded("totalBalance",
+            mapping(Account::getBalance, reducing(BigDecimal.ZERO, BigDecimal::add)));
+
+    public static final AccountMetric<List<Account>> SORTED_BY_FIRST_AND_LAST_NAMES = unbounded(
+            "sortedByFirstAndLastNames", collectingAndThen(toCollection(ArrayList::new), accounts -> {
+        accounts.sort(comparing(Account::getFirstName).thenComparing(Account::getLastName));
+        return accounts;
+    }));
+
+    public static final AccountMetric<Map<Long, Account>> ACCOUNTS_BY_ID = unbounded("accountsById",
+            toMap(Account::getId, identity()));
+
+    public static final AccountMetric<Map<String, Set<String>>> FIRST_NAMES_BY_LAST_NAMES = unbounded(
+            "firstNamesByLastNames", groupingBy(Account::getLastName, mapping(Account::getFirstName, toSet())));
+
+    public static final AccountMetric<Map<Month, String>> COMMA_SEPARATED_FIRST_NAMES_BY_BIRTHDAY_MONTH =
+            unbounded("commaSeparatedFirstNamesByBirthdayMonth",
+                    groupingBy(a -> a.getBirthday().getMonth(), mapping(Account::getFirstName, joining(", "))));
+
+    public static final AccountMetric<Map<Month, BigDecimal>> TOTAL_BALANCE_BY_CREATION_MONTH = bounded(
+            "totalBalanceByCreationMonth", groupingBy(a -> a.getCreationDate().getMonth(),
+            mapping(Account::getBalance, reducing(BigDecimal.ZERO, BigDecimal::add))));
+
+    public static final AccountMetric<CharHistogram> CHARACTER_HISTOGRAM_IN_FIRST_NAMES = bounded(
+            "characterHistogramInFirstNames", Collector.of(CharHistogram::new,
+                    (histogram, a) -> histogram.add(a.getFirstName()), CharHistogram::merge));
+
+    public static final AccountMetric<CharHistogram> CHARACTER_HISTOGRAM_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES =
+            bounded("characterHistogramIgnoreCaseInFirstAndLastNames", Collector.of(CharHistogram::new,
+                    (histogram, a) -> {
+                        histogram.addIgnoreCase(a.getFirstName());
+                        histogram.addIgnoreCase(a.getLastName());
+                    }, CharHistogram::merge));
+
+    public static final AccountMetric<Map<Character, Long>> CHARACTER_FREQUENCY_IN_FIRST_NAMES = bounded(
+            "characterFrequencyInFirstNames",
+            collectingAndThen(CHARACTER_HISTOGRAM_IN_FIRST_NAMES.collector(), CharHistogram::toMap));
+
+    public static final AccountMetric<Map<Character, Long>> CHARACTER_FREQUENCY_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES =
+            bounded("characterFrequencyIgnoreCaseInFirstAndLastNames", collectingAndThen(
+                    CHARACTER_HISTOGRAM_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES.collector(), CharHistogram::toMap));
+
+    /**
+     * Creates a metric that collects all accounts with provided birthday month.
+     *
+     * @param birthdayMonth a month of birth
+     * @return a new metric
+     */
+    public static AccountMetric<List<Account>> accountsByBirthdayMonth(Month birthdayMonth) {
+        return unbounded("accountsByBirthdayMonth[" + birthdayMonth + "]",
+                filtering(a -> a.getBirthday().getMonth() == birthdayMonth, toList()));
+    }
+
+    /**
+     * Creates a metric that checks if there is at least one account with provided email domain. A collector cannot stop
+     * the pass, so once a match is found the rest of accounts are skipped without extracting their domains.
+     *
+     * @param emailDomain an email domain like "gmail.com"
+     * @return a new metric
+     */
+    public static AccountMetric<Boolean> containsEmailDomain(String emailDomain) {
+        return bounded("containsEmailDomain[" + emailDomain + "]", Collector.of(() -> new boolean[1],
+                (found, a) -> found[0] = found[0] || emailDomain(a).equals(emailDomain),
+                (left, right) -> {
+                    left[0] |= right[0];
+                    return left;
+                }, found -> found[0]));
+    }
+
+    /**
+     * Creates a metric that collects balances by emails of accounts created in provided year.
+     *
+     * @param year the year of account creation
+     * @return a new metric
+     */
+    public static AccountMetric<Map<String, BigDecimal>> balancesByEmailForAccountsCreatedOn(int year) {
+        return unbounded("balancesByEmailForAccountsCreatedOn[" + year + "]",
+                filtering(a -> a.getCreationDate().getYear() == year, toMap(Account::getEmail, Account::getBalance)));
+    }
+
+    /**
+     * Creates a metric that collects {@code k} accounts with the highest balance, ordered by balance from the highest.
+     * Accounts with equal balance keep their encounter order. Only {@code k} accounts are kept during the pass, so the
+     * metric is bounded. Throws {@link IllegalArgumentException} if k is not positive.
+     *
+     * @param k a number of accounts
+     * @return a new metric
+     */
+    public static AccountMetric<List<Account>> topKRichest(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K should be positive");
+        }
+        return bounded("topKRichest[" + k + "]", Collector.of(() -> new TopK(k), TopK::add, TopK::merge, TopK::toList));
+    }
+
+    /**
+     * Creates a metric that estimates a number of distinct email domains with a {@link HyperLogLog} sketch.
+     *
+     * @param precision a precision of the sketch
+     * @return a new metric
+     */
+    public static AccountMetric<Long> distinctEmailDomains(int precision) {
+        return bounded("distinctEmailDomains[" + precision + "]", Collector.of(() -> new HyperLogLog(precision),
+                (sketch, account) -> sketch.add(emailDomain(account)), HyperLogLog::merge, HyperLogLog::estimate));
+    }
+
+    /**
+     * Creates a metric that finds {@code k} most frequent last names with {@link HeavyHitters} sketch.
+     *
+     * @param k     a number of last names
+     * @param depth a depth of the underlying Count-Min sketch
+     * @param width a width of the underlying Count-Min sketch
+     * @return a new metric
+     */
+    public static AccountMetric<Map<String, Long>> heavyHitterLastNames(int k, int depth, int width) {
+        return bounded("heavyHitterLastNames[" + k + "]", Collector.of(() -> new HeavyHitters(k, depth, width),
+                (sketch, account) -> sketch.add(account.getLastName()), HeavyHitters::merge, HeavyHitters::topK));
+    }
+
+    /**
+     * Creates a metric that builds a {@link QuantileSketch} of account balances.
+     *
+     * @param relativeAccuracy a relative accuracy of quantiles
+     * @param maxBuckets       a max number of sketch buckets
+     * @return a new metric
+     */
+    public static AccountMetric<QuantileSketch> balanceQuantiles(double relativeAccuracy, int maxBuckets) {
+        return bounded("balanceQuantiles[" + relativeAccuracy + "]",
+                Collector.of(() -> new QuantileSketch(relativeAccuracy, maxBuckets),
+                        (sketch, account) -> sketch.add(account.getBalance().doubleValue()), QuantileSketch::merge));
+    }
+
+    private static <R> AccountMetric<R> bounded(String name, Collector<Account, ?, R> collector) {
+        return new AccountMetric<>(name, true, collector);
+    }
+
+    private static <R> AccountMetric<R> unbounded(String name, Collector<Account, ?, R> collector) {
+        return new AccountMetric<>(name, false, collector);
+    }
+
+    static String emailDomain(Account account) {
+        String email = account.getEmail();
+        return email.substring(email.indexOf('@') + 1);
+    }
+
+    private final String name;
+    private final boolean bounded;
+    private final Collector<Account, ?, R> collector;
+
+    private AccountMetric(String name, boolean bounded, Collector<Account, ?, R> collector) {
+        this.name = name;
+        this.bounded = bounded;
+        this.collector = collector;
+    }
+
+    /**
+     * Checks if the metric can be computed in memory that doesn't depend on the number of accounts. Only such metrics
+     * are allowed in {@link AccountAnalytics#streamingReport(Stream, AccountMetric[])}.
+     *
+     * @return {@code true} if the metric needs bounded memory, {@code false} otherwise
+     */
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    Collector<Account, ?, R> collector() {
+        return collector;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A bounded min-heap of the richest accounts seen so far. Accounts are ranked by balance, and then by the position
+     * in the stream, so the result doesn't depend on how the stream was split.
+     */
+    private static class TopK {
+        private static final Comparator<Ranked> WORST_FIRST = Comparator
+                .<Ranked, BigDecimal>comparing(r -> r.account.getBalance())
+                .thenComparing(Comparator.comparingLong((Ranked r) -> r.position).reversed());
+
+        private final int k;
+        private final PriorityQueue<Ranked> heap;
+        private long count;
+
+        TopK(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(k, WORST_FIRST);
+        }
+
+        void add(Account account) {
+            offer(new Ranked(account, count++));
+        }
+
+        TopK merge(TopK right) {
+            for (Ranked ranked : right.heap) {
+                offer(new Ranked(ranked.account, count + ranked.position));
+            }
+            count += right.count;
+            return this;
+        }
+
+        List<Account> toList() {
+            List<Ranked> ranked = new ArrayList<>(heap);
+            ranked.sort(WORST_FIRST.reversed());
+            List<Account> accounts = new ArrayList<>(ranked.size());
+            ranked.forEach(r -> accounts.add(r.account));
+            return accounts;
+        }
+
+        private void offer(Ranked ranked) {
+            if (heap.size() < k) {
+                heap.add(ranked);
+            } else if (WORST_FIRST.compare(ranked, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+    }
+
+    private static class Ranked {
+        private final Account account;
+        private final long position;
+
+        Ranked(Account account, long position) {
+            this.account = account;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ua.procamp;
+
+import ua.procamp.model.Account;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * {@link AccountReport} holds values of all {@link AccountMetric} objects that were registered for the report. All the
+ * values are computed in a single pass over the accounts, and are equal to the values returned by corresponding
+ * methods of {@link AccountAnalytics}.
+ */
+public final class AccountReport {
+    private final Map<AccountMetric<?>, Object> values;
+
+    private AccountReport(Map<AccountMetric<?>, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a value of the metric. Throws {@link IllegalArgumentException} if the metric was not registered for
+     * this report.
+     *
+     * @param metric a registered metric
+     * @param <R>    a type of the metric value
+     * @return a value of the metric
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(AccountMetric<R> metric) {
+        if (!values.containsKey(metric)) {
+            throw new IllegalArgumentException(String.format("Metric %s is not registered for this report", metric));
+        }
+        return (R) values.get(metric);
+    }
+
+    /**
+     * Returns all metrics of this report in the order they were registered.
+     *
+     * @return a set of registered metrics
+     */
+    public Set<AccountMetric<?>> metrics() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Creates a {@link Collector} that fuses collectors of all provided metrics, so each account is passed to every
+     * metric during the same pass.
+     *
+     * @param metrics metrics to compute
+     * @return a collector that builds a report
+     */
+    static Collector<Account, ?, AccountReport> collector(Collection<AccountMetric<?>> metrics) {
+        List<AccountMetric<?>> metricList = new ArrayList<>(new LinkedHashSet<>(metrics));
+        int size = metricList.size();
+        List<Supplier<Object>> suppliers = new ArrayList<>(size);
+        List<BiConsumer<Object, Account>> accumulators = new ArrayList<>(size);
+        List<BinaryOperator<Object>> combiners = new ArrayList<>(size);
+        List<Function<Object, Object>> finishers = new ArrayList<>(size);
+        for (AccountMetric<?> metric : metricList) {
+            Collector<Account, Object, Object> collector = erase(metric.collector());
+            suppliers.add(collector.supplier());
+            accumulators.add(collector.accumulator());
+            combiners.add(collector.combiner());
+            finishers.add(collector.finisher());
+        }
+
+        return Collector.of(
+                () -> {
+                    Object[] containers = new Object[size];
+                    for (int i = 0; i < size; i++) {
+                        containers[i] = suppliers.get(i).get();
+                    }
+                    return containers;
+                },
+                (containers, account) -> {
+                    for (int i = 0; i < size; i++) {
+                        accumulators.get(i).accept(containers[i], account);
+                    }
+                },
+                (left, right) -> {
+                    for (int i = 0; i < size; i++) {
+                        left[i] = combiners.get(i).apply(left[i], right[i]);
+                    }
+                    return left;
+                },
+                containers -> {
+                    Map<AccountMetric<?>, Object> values = new LinkedHashMap<>(size * 2);
+                    for (int i = 0; i < size; i++) {
+                        values.put(metricList.get(i), finishers.get(i).apply(containers[i]));
+                    }
+                    return new AccountReport(values);
+                });
+    }
+
+    /**
+     * Erases the container and result types of a metric collector. It is safe, because each container is created by the
+     * collector's own supplier and is passed only back to the same collector.
+     */
+    @SuppressWarnings("unchecked")
+    private static Collector<Account, Object, Object> erase(Collector<Account, ?, ?> collector) {
+        return (Collector<Account, Object, Object>) collector;
+    }
+}
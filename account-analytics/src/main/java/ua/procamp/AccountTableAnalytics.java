@@ -0,0 +1,339 @@
+package ua.procamp;
+
+import ua.procamp.data.AccountTable;
+import ua.procamp.data.StringDictionary;
+import ua.procamp.exception.EntityNotFoundException;
+import ua.procamp.model.Account;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * {@link AccountTableAnalytics} provides the same queries as {@link AccountAnalytics}, but runs them directly on the
+ * primitive columns of {@link AccountTable}. Strings are compared and counted by their dictionary codes, balances are
+ * summed as cents, and {@link Account} objects are materialized only for the rows that are returned to the caller.
+ * All the results are equal to the results of {@link AccountAnalytics} created from the same accounts.
+ */
+public class AccountTableAnalytics {
+    private final AccountTable table;
+
+    public static AccountTableAnalytics of(AccountTable table) {
+        return new AccountTableAnalytics(table);
+    }
+
+    private AccountTableAnalytics(AccountTable table) {
+        this.table = table;
+    }
+
+    /**
+     * @see AccountAnalytics#findRichestPerson()
+     */
+    public Optional<Account> findRichestPerson() {
+        if (table.size() == 0) {
+            return Optional.empty();
+        }
+        int richestRow = 0;
+        for (int row = 1; row < table.size(); row++) {
+            if (table.balanceCents(row) > table.balanceCents(richestRow)) {
+                richestRow = row;
+            }
+        }
+        return Optional.of(table.account(richestRow));
+    }
+
+    /**
+     * @see AccountAnalytics#findAccountsByBirthdayMonth(Month)
+     */
+    public List<Account> findAccountsByBirthdayMonth(Month birthdayMonth) {
+        List<Account> accounts = new ArrayList<>();
+        for (int row = 0; row < table.size(); row++) {
+            if (table.birthdayMonth(row) == birthdayMonth) {
+                accounts.add(table.account(row));
+            }
+        }
+        return accounts;
+    }
+
+    /**
+     * @see AccountAnalytics#partitionMaleAccounts()
+     */
+    public Map<Boolean, List<Account>> partitionMaleAccounts() {
+        List<Account> males = new ArrayList<>();
+        List<Account> females = new ArrayList<>();
+        for (int row = 0; row < table.size(); row++) {
+            (table.isMale(row) ? males : females).add(table.account(row));
+        }
+        Map<Boolean, List<Account>> partition = new HashMap<>(4);
+        partition.put(Boolean.TRUE, males);
+        partition.put(Boolean.FALSE, females);
+        return partition;
+    }
+
+    /**
+     * @see AccountAnalytics#groupAccountsByEmailDomain()
+     */
+    public Map<String, List<Account>> groupAccountsByEmailDomain() {
+        StringDictionary domains = table.emailDomainDictionary();
+        List<List<Account>> accountsByDomainCode = new ArrayList<>(domains.size());
+        for (int code = 0; code < domains.size(); code++) {
+            accountsByDomainCode.add(new ArrayList<>());
+        }
+        for (int row = 0; row < table.size(); row++) {
+            accountsByDomainCode.get(table.emailDomainCode(row)).add(table.account(row));
+        }
+        Map<String, List<Account>> accountsByDomain = new HashMap<>();
+        for (int code = 0; code < domains.size(); code++) {
+            accountsByDomain.put(domains.get(code), accountsByDomainCode.get(code));
+        }
+        return accountsByDomain;
+    }
+
+    /**
+     * @see AccountAnalytics#getNumOfLettersInFirstAndLastNames()
+     */
+    public int getNumOfLettersInFirstAndLastNames() {
+        int[] firstNameLengths = lengths(table.firstNameDictionary());
+        int[] lastNameLengths = lengths(table.lastNameDictionary());
+        int numOfLetters = 0;
+        for (int row = 0; row < table.size(); row++) {
+            numOfLetters += firstNameLengths[table.firstNameCode(row)] + lastNameLengths[table.lastNameCode(row)];
+        }
+        return numOfLetters;
+    }
+
+    /**
+     * @see AccountAnalytics#calculateTotalBalance()
+     */
+    public BigDecimal calculateTotalBalance() {
+        long totalCents = 0;
+        int scale = 0;
+        for (int row = 0; row < table.size(); row++) {
+            totalCents = Math.addExact(totalCents, table.balanceCents(row));
+            scale = Math.max(scale, table.balanceScale(row));
+        }
+        return AccountTable.toBalance(totalCents, scale);
+    }
+
+    /**
+     * @see AccountAnalytics#sortByFirstAndLastNames()
+     */
+    public List<Account> sortByFirstAndLastNames() {
+        int[] firstNameRanks = ranks(table.firstNameDictionary());
+        int[] lastNameRanks = ranks(table.lastNameDictionary());
+        int[] rows = new int[table.size()];
+        Arrays.setAll(rows, row -> row);
+        rows = countingSort(rows, row -> lastNameRanks[table.lastNameCode(row)], lastNameRanks.length);
+        rows = countingSort(rows, row -> firstNameRanks[table.firstNameCode(row)], firstNameRanks.length);
+        List<Account> accounts = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            accounts.add(table.account(row));
+        }
+        return accounts;
+    }
+
+    /**
+     * @see AccountAnalytics#containsAccountWithEmailDomain(String)
+     */
+    public boolean containsAccountWithEmailDomain(String emailDomain) {
+        return table.emailDomainDictionary().code(emailDomain) >= 0;
+    }
+
+    /**
+     * @see AccountAnalytics#getBalanceByEmail(String)
+     */
+    public BigDecimal getBalanceByEmail(String email) {
+        int row = table.rowOfEmail(email);
+        if (row < 0) {
+            throw new EntityNotFoundException(String.format("Cannot find Account by email=%s", email));
+        }
+        return table.balance(row);
+    }
+
+    /**
+     * @see AccountAnalytics#collectAccountsById()
+     */
+    public Map<Long, Account> collectAccountsById() {
+        Map<Long, Account> accountsById = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            Account account = table.account(row);
+            putUnique(accountsById, account.getId(), account);
+        }
+        return accountsById;
+    }
+
+    /**
+     * @see AccountAnalytics#collectBalancesByIdForAccountsCreatedOn(int)
+     */
+    public Map<String, BigDecimal> collectBalancesByIdForAccountsCreatedOn(int year) {
+        Map<String, BigDecimal> balancesByEmail = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            if (table.creationYear(row) == year) {
+                putUnique(balancesByEmail, table.email(row), table.balance(row));
+            }
+        }
+        return balancesByEmail;
+    }
+
+    /**
+     * @see AccountAnalytics#groupFirstNamesByLastNames()
+     */
+    public Map<String, Set<String>> groupFirstNamesByLastNames() {
+        Map<String, Set<String>> firstNamesByLastName = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            firstNamesByLastName.computeIfAbsent(table.lastName(row), lastName -> new HashSet<>())
+                    .add(table.firstName(row));
+        }
+        return firstNamesByLastName;
+    }
+
+    /**
+     * @see AccountAnalytics#groupCommaSeparatedFirstNamesByBirthdayMonth()
+     */
+    public Map<Month, String> groupCommaSeparatedFirstNamesByBirthdayMonth() {
+        Map<Month, StringJoiner> firstNamesByMonth = new EnumMap<>(Month.class);
+        for (int row = 0; row < table.size(); row++) {
+            firstNamesByMonth.computeIfAbsent(table.birthdayMonth(row), month -> new StringJoiner(", "))
+                    .add(table.firstName(row));
+        }
+        Map<Month, String> commaSeparatedFirstNamesByMonth = new EnumMap<>(Month.class);
+        firstNamesByMonth.forEach((month, joiner) -> commaSeparatedFirstNamesByMonth.put(month, joiner.toString()));
+        return commaSeparatedFirstNamesByMonth;
+    }
+
+    /**
+     * @see AccountAnalytics#groupTotalBalanceByCreationMonth()
+     */
+    public Map<Month, BigDecimal> groupTotalBalanceByCreationMonth() {
+        long[] totalCents = new long[12];
+        int[] scales = new int[12];
+        boolean[] present = new boolean[12];
+        for (int row = 0; row < table.size(); row++) {
+            int month = table.creationMonth(row).ordinal();
+            totalCents[month] = Math.addExact(totalCents[month], table.balanceCents(row));
+            scales[month] = Math.max(scales[month], table.balanceScale(row));
+            present[month] = true;
+        }
+        Map<Month, BigDecimal> totalBalanceByMonth = new EnumMap<>(Month.class);
+        for (Month month : Month.values()) {
+            if (present[month.ordinal()]) {
+                totalBalanceByMonth.put(month, AccountTable.toBalance(totalCents[month.ordinal()], scales[month.ordinal()]));
+            }
+        }
+        return totalBalanceByMonth;
+    }
+
+    /**
+     * @see AccountAnalytics#getCharacterFrequencyInFirstNames()
+     */
+    public Map<Character, Long> getCharacterFrequencyInFirstNames() {
+        return getCharacterHistogramInFirstNames().toMap();
+    }
+
+    /**
+     * @see AccountAnalytics#getCharacterHistogramInFirstNames()
+     */
+    public CharHistogram getCharacterHistogramInFirstNames() {
+        CharHistogram histogram = new CharHistogram();
+        countCharacters(table.firstNameDictionary(), firstNameCodeCounts(), histogram, false);
+        return histogram;
+    }
+
+    /**
+     * @see AccountAnalytics#getCharacterFrequencyIgnoreCaseInFirstAndLastNames()
+     */
+    public Map<Character, Long> getCharacterFrequencyIgnoreCaseInFirstAndLastNames() {
+        return getCharacterHistogramIgnoreCaseInFirstAndLastNames().toMap();
+    }
+
+    /**
+     * @see AccountAnalytics#getCharacterHistogramIgnoreCaseInFirstAndLastNames()
+     */
+    public CharHistogram getCharacterHistogramIgnoreCaseInFirstAndLastNames() {
+        CharHistogram histogram = new CharHistogram();
+        countCharacters(table.firstNameDictionary(), firstNameCodeCounts(), histogram, true);
+        countCharacters(table.lastNameDictionary(), lastNameCodeCounts(), histogram, true);
+        return histogram;
+    }
+
+    private long[] firstNameCodeCounts() {
+        long[] counts = new long[table.firstNameDictionary().size()];
+        for (int row = 0; row < table.size(); row++) {
+            counts[table.firstNameCode(row)]++;
+        }
+        return counts;
+    }
+
+    private long[] lastNameCodeCounts() {
+        long[] counts = new long[table.lastNameDictionary().size()];
+        for (int row = 0; row < table.size(); row++) {
+            counts[table.lastNameCode(row)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Adds characters of each distinct string to the histogram once, weighted by the number of rows with that string.
+     */
+    private static void countCharacters(StringDictionary dictionary, long[] codeCounts, CharHistogram histogram,
+                                        boolean ignoreCase) {
+        for (int code = 0; code < dictionary.size(); code++) {
+            if (codeCounts[code] == 0) {
+                continue;
+            }
+            String value = dictionary.get(code);
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                histogram.add(ignoreCase ? Character.toLowerCase(c) : c, codeCounts[code]);
+            }
+        }
+    }
+
+    private static int[] lengths(StringDictionary dictionary) {
+        int[] lengths = new int[dictionary.size()];
+        for (int code = 0; code < lengths.length; code++) {
+            lengths[code] = dictionary.get(code).length();
+        }
+        return lengths;
+    }
+
+    /**
+     * Stably sorts rows by a key in the range from zero to {@code keys - 1}. Sorting by the last name rank and then by
+     * the first name rank orders rows by both names, and rows with equal names keep their order, as a stable
+     * comparison sort does.
+     */
+    private static int[] countingSort(int[] rows, IntUnaryOperator key, int keys) {
+        int[] offsets = new int[keys + 1];
+        for (int row : rows) {
+            offsets[key.applyAsInt(row) + 1]++;
+        }
+        for (int k = 0; k < keys; k++) {
+            offsets[k + 1] += offsets[k];
+        }
+        int[] sortedRows = new int[rows.length];
+        for (int row : rows) {
+            sortedRows[offsets[key.applyAsInt(row)]++] = row;
+        }
+        return sortedRows;
+    }
+
+    private static int[] ranks(StringDictionary dictionary) {
+        Integer[] codes = new Integer[dictionary.size()];
+        Arrays.setAll(codes, code -> code);
+        Arrays.sort(codes, Comparator.comparing(dictionary::get));
+        int[] ranks = new int[codes.length];
+        for (int rank = 0; rank < codes.length; rank++) {
+            ranks[codes[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    private static <K, V> void putUnique(Map<K, V> map, K key, V value) {
+        V existingValue = map.putIfAbsent(key, value);
+        if (existingValue != null) {
+            throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)",
+                    key, existingValue, value));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package ua.procamp;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CharHistogram} counts occurrences of characters in dense {@code long[]} tables, so counting doesn't box
+ * characters or counts. Latin-1 characters, which cover most of the names, are counted in a small table of 256
+ * counters, and a full table for the rest of characters is allocated only when such a character is met for the
+ * first time.
+ */
+public final class CharHistogram {
+    private static final int LATIN_1_SIZE = 256;
+
+    private final long[] latin1 = new long[LATIN_1_SIZE];
+    private long[] others;
+
+    /**
+     * Counts every character of provided string.
+     *
+     * @param value a string
+     */
+    public void add(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            add(value.charAt(i));
+        }
+    }
+
+    /**
+     * Counts every character of provided string converted to lower case with {@link Character#toLowerCase(char)}.
+     *
+     * @param value a string
+     */
+    public void addIgnoreCase(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                add(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            } else {
+                add(Character.toLowerCase(c));
+            }
+        }
+    }
+
+    /**
+     * Counts one occurrence of a character.
+     *
+     * @param c a character
+     */
+    public void add(char c) {
+        if (c < LATIN_1_SIZE) {
+            latin1[c]++;
+        } else {
+            others()[c]++;
+        }
+    }
+
+    /**
+     * Counts provided number of occurrences of a character.
+     *
+     * @param c     a character
+     * @param count a number of occurrences
+     */
+    public void add(char c, long count) {
+        if (c < LATIN_1_SIZE) {
+            latin1[c] += count;
+        } else {
+            others()[c] += count;
+        }
+    }
+
+    /**
+     * Returns a number of occurrences of the character.
+     *
+     * @param c a character
+     * @return a number of occurrences
+     */
+    public long count(char c) {
+        if (c < LATIN_1_SIZE) {
+            return latin1[c];
+        }
+        return others == null ? 0 : others[c];
+    }
+
+    /**
+     * Adds counts of other histogram to this one.
+     *
+     * @param other a histogram to merge
+     * @return this histogram
+     */
+    public CharHistogram merge(CharHistogram other) {
+        for (int c = 0; c < LATIN_1_SIZE; c++) {
+            latin1[c] += other.latin1[c];
+        }
+        if (other.others != null) {
+            long[] others = others();
+            for (int c = LATIN_1_SIZE; c < others.length; c++) {
+                others[c] += other.others[c];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Passes every character that occurred at least once, with its count, to the consumer in ascending order of
+     * characters.
+     *
+     * @param consumer a consumer of characters and counts
+     */
+    public void forEach(CharCountConsumer consumer) {
+        for (int c = 0; c < LATIN_1_SIZE; c++) {
+            if (latin1[c] > 0) {
+                consumer.accept((char) c, latin1[c]);
+            }
+        }
+        for (int c = LATIN_1_SIZE; others != null && c < others.length; c++) {
+            if (others[c] > 0) {
+                consumer.accept((char) c, others[c]);
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link Map} where key is a character, and value is a number of its occurrences.
+     *
+     * @return a map of character counts
+     */
+    public Map<Character, Long> toMap() {
+        Map<Character, Long> map = new HashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    private long[] others() {
+        if (others == null) {
+            others = new long[Character.MAX_VALUE + 1];
+        }
+        return others;
+    }
+
+    /**
+     * A consumer of a character and its count, that doesn't box them.
+     */
+    @FunctionalInterface
+    public interface CharCountConsumer {
+        void accept(char c, long count);
+    }
+}
@@ -0,0 +1,275 @@
+package ua.procamp;
+
+import ua.procamp.exception.EntityNotFoundException;
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.util.*;
+
+/**
+ * {@link IncrementalAccountAnalytics} keeps a set of aggregates materialized, while accounts are added, updated and
+ * removed. Accounts are identified by {@link Account#email}. Each event costs O(log n), and every read takes constant
+ * time: the male/female partition is a pair of live read-only lists over the maintained views, so it always reflects
+ * current accounts without copying them. An event that fails, e.g. because of a {@code null} balance or creation date,
+ * leaves the aggregates unchanged.
+ * <p>
+ * Every read returns a value that is equal to the value of the corresponding {@link AccountAnalytics} query for a
+ * list of current accounts, that is ordered by the time accounts were added.
+ */
+public class IncrementalAccountAnalytics {
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final BalanceSum totalBalance = new BalanceSum();
+    private final BalanceSum[] balanceByCreationMonth = new BalanceSum[Month.values().length];
+    private final NavigableMap<Long, Account> males = new TreeMap<>();
+    private final NavigableMap<Long, Account> females = new TreeMap<>();
+    private final Map<Boolean, List<Account>> partition = Map.of(Boolean.TRUE, new AccountsView(males),
+            Boolean.FALSE, new AccountsView(females));
+    private long nextSequence;
+
+    public static IncrementalAccountAnalytics of(Collection<Account> accounts) {
+        IncrementalAccountAnalytics analytics = new IncrementalAccountAnalytics();
+        accounts.forEach(analytics::add);
+        return analytics;
+    }
+
+    private IncrementalAccountAnalytics() {
+        Arrays.setAll(balanceByCreationMonth, month -> new BalanceSum());
+    }
+
+    /**
+     * Adds a new account. Throws {@link IllegalArgumentException} if an account with the same email was already added.
+     *
+     * @param account an account to add
+     */
+    public void add(Account account) {
+        if (entries.containsKey(account.getEmail())) {
+            throw new IllegalArgumentException(String.format("Account with email=%s already exists", account.getEmail()));
+        }
+        Entry entry = new Entry(nextSequence, account);
+        nextSequence++;
+        entries.put(account.getEmail(), entry);
+        include(entry);
+    }
+
+    /**
+     * Replaces the state of an account that has the same email by the current state of provided account. Throws
+     * {@link EntityNotFoundException} with message "Cannot find Account by email={email}" if account is not found.
+     *
+     * @param account an updated account
+     */
+    public void update(Account account) {
+        Entry entry = getEntry(account.getEmail());
+        Entry updatedEntry = new Entry(entry.sequence, account);
+        exclude(entry);
+        include(updatedEntry);
+        entries.put(account.getEmail(), updatedEntry);
+    }
+
+    /**
+     * Removes an account that has the same email. Throws {@link EntityNotFoundException} with message
+     * "Cannot find Account by email={email}" if account is not found.
+     *
+     * @param account an account to remove
+     */
+    public void remove(Account account) {
+        exclude(getEntry(account.getEmail()));
+        entries.remove(account.getEmail());
+    }
+
+    /**
+     * @see AccountAnalytics#calculateTotalBalance()
+     */
+    public BigDecimal calculateTotalBalance() {
+        return totalBalance.value();
+    }
+
+    /**
+     * @see AccountAnalytics#groupTotalBalanceByCreationMonth()
+     */
+    public Map<Month, BigDecimal> groupTotalBalanceByCreationMonth() {
+        Map<Month, BigDecimal> totalBalanceByMonth = new EnumMap<>(Month.class);
+        for (Month month : Month.values()) {
+            BalanceSum monthBalance = balanceByCreationMonth[month.ordinal()];
+            if (monthBalance.count() > 0) {
+                totalBalanceByMonth.put(month, monthBalance.value());
+            }
+        }
+        return totalBalanceByMonth;
+    }
+
+    /**
+     * Returns an unmodifiable partition of current accounts. Its lists are live views, that change with following
+     * events, so copy them to keep a snapshot. An event must not happen while a list is iterated.
+     *
+     * @see AccountAnalytics#partitionMaleAccounts()
+     */
+    public Map<Boolean, List<Account>> partitionMaleAccounts() {
+        return partition;
+    }
+
+    private Entry getEntry(String email) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            throw new EntityNotFoundException(String.format("Cannot find Account by email=%s", email));
+        }
+        return entry;
+    }
+
+    private void include(Entry entry) {
+        totalBalance.add(entry.balance);
+        balanceByCreationMonth[entry.creationMonth.ordinal()].add(entry.balance);
+        (entry.male ? males : females).put(entry.sequence, entry.account);
+    }
+
+    private void exclude(Entry entry) {
+        totalBalance.subtract(entry.balance);
+        balanceByCreationMonth[entry.creationMonth.ordinal()].subtract(entry.balance);
+        (entry.male ? males : females).remove(entry.sequence);
+    }
+
+    /**
+     * A state of an account at the time of the last event, which is needed to revert its contribution. All fields are
+     * read and checked when an entry is created, before any aggregate is changed.
+     */
+    private static class Entry {
+        private final long sequence;
+        private final Account account;
+        private final BigDecimal balance;
+        private final Month creationMonth;
+        private final boolean male;
+
+        private Entry(long sequence, Account account) {
+            this.sequence = sequence;
+            this.account = account;
+            this.balance = Objects.requireNonNull(account.getBalance(), "Account balance is null");
+            this.creationMonth = Objects.requireNonNull(account.getCreationDate(), "Account creation date is null")
+                    .getMonth();
+            this.male = account.getSex() == Sex.MALE;
+        }
+    }
+
+    /**
+     * A read-only list of accounts in a view, ordered by the time accounts were added. Iteration walks the view, so
+     * access by index takes linear time.
+     */
+    private static class AccountsView extends AbstractSequentialList<Account> {
+        private final NavigableMap<Long, Account> view;
+
+        private AccountsView(NavigableMap<Long, Account> view) {
+            this.view = view;
+        }
+
+        @Override
+        public int size() {
+            return view.size();
+        }
+
+        @Override
+        public ListIterator<Account> listIterator(int index) {
+            if (index < 0 || index > view.size()) {
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, view.size()));
+            }
+            ViewIterator iterator = new ViewIterator();
+            for (int i = 0; i < index; i++) {
+                iterator.next();
+            }
+            return iterator;
+        }
+
+        private class ViewIterator implements ListIterator<Account> {
+            private Map.Entry<Long, Account> next = view.firstEntry();
+            private Map.Entry<Long, Account> previous;
+            private int nextIndex;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Account next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                previous = next;
+                next = view.higherEntry(next.getKey());
+                nextIndex++;
+                return previous.getValue();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return previous != null;
+            }
+
+            @Override
+            public Account previous() {
+                if (previous == null) {
+                    throw new NoSuchElementException();
+                }
+                next = previous;
+                previous = view.lowerEntry(previous.getKey());
+                nextIndex--;
+                return next.getValue();
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void set(Account account) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void add(Account account) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
+    /**
+     * A running sum of balances. It tracks scales of all summands, so its value has the same scale as the sum
+     * computed from scratch by {@link BigDecimal#add(BigDecimal)}.
+     */
+    private static class BalanceSum {
+        private final NavigableMap<Integer, Integer> scaleCounts = new TreeMap<>();
+        private BigDecimal sum = BigDecimal.ZERO;
+        private int count;
+
+        void add(BigDecimal balance) {
+            sum = sum.add(balance);
+            scaleCounts.merge(balance.scale(), 1, Integer::sum);
+            count++;
+        }
+
+        void subtract(BigDecimal balance) {
+            sum = sum.subtract(balance);
+            scaleCounts.computeIfPresent(balance.scale(), (scale, scaleCount) -> scaleCount == 1 ? null : scaleCount - 1);
+            count--;
+        }
+
+        BigDecimal value() {
+            int scale = scaleCounts.isEmpty() ? 0 : Math.max(0, scaleCounts.lastKey());
+            return sum.setScale(scale);
+        }
+
+        int count() {
+            return count;
+        }
+    }
+}
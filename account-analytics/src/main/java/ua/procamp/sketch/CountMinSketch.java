@@ -0,0 +1,91 @@
+package ua.procamp.sketch;
+
+/**
+ * {@link CountMinSketch} estimates how many times a string was added, using a fixed {@code depth x width} table of
+ * counters. An estimate is never less than the real count, and exceeds it by at most {@code 2 * total / width} with
+ * probability {@code 1 - 2^-depth}.
+ */
+public final class CountMinSketch {
+    private final int depth;
+    private final int width;
+    private final long[] counters;
+    private long total;
+
+    /**
+     * Creates an empty sketch. Throws {@link IllegalArgumentException} if depth or width is not positive.
+     *
+     * @param depth a number of hash functions
+     * @param width a number of counters per hash function
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Depth and width should be positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new long[Math.multiplyExact(depth, width)];
+    }
+
+    /**
+     * Adds one occurrence of a string and returns its new estimated count.
+     *
+     * @param value a string to add
+     * @return estimated count of the string
+     */
+    public long add(CharSequence value) {
+        long hash = Hashes.hash(value, 0);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int counter = counter(hash, row);
+            estimate = Math.min(estimate, ++counters[counter]);
+        }
+        total++;
+        return estimate;
+    }
+
+    /**
+     * Returns estimated count of a string.
+     *
+     * @param value a string
+     * @return estimated count of the string
+     */
+    public long estimateCount(CharSequence value) {
+        long hash = Hashes.hash(value, 0);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[counter(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns a number of all added strings.
+     *
+     * @return total count
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Merges other sketch into this one. Throws {@link IllegalArgumentException} if sketches have different dimensions.
+     *
+     * @param other a sketch to merge
+     * @return this sketch
+     */
+    public CountMinSketch merge(CountMinSketch other) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("Cannot merge sketches with different dimensions");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+        return this;
+    }
+
+    private int counter(long hash, int row) {
+        long rowHash = Hashes.mix(hash + row * 0x9e3779b97f4a7c15L);
+        return row * width + (int) Long.remainderUnsigned(rowHash, width);
+    }
+}
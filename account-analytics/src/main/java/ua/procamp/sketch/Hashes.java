@@ -0,0 +1,30 @@
+package ua.procamp.sketch;
+
+/**
+ * 64-bit hash functions used by sketches. {@link String#hashCode()} has only 32 bits and is poorly distributed for
+ * short strings, so strings are hashed with FNV-1a and finalized with the MurmurHash3 mixer.
+ */
+final class Hashes {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashes() {
+    }
+
+    static long hash(CharSequence value, long seed) {
+        long hash = FNV_OFFSET_BASIS ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
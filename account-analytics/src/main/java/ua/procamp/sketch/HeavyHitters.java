@@ -0,0 +1,80 @@
+package ua.procamp.sketch;
+
+import java.util.*;
+
+/**
+ * {@link HeavyHitters} tracks up to {@code k} most frequent strings. Counts are estimated by a {@link CountMinSketch},
+ * and only {@code k} candidates are kept, so memory doesn't depend on the number of distinct strings.
+ */
+public final class HeavyHitters {
+    private final int k;
+    private final CountMinSketch counts;
+    private final Map<String, Long> candidates;
+
+    /**
+     * Creates an empty sketch. Throws {@link IllegalArgumentException} if k is not positive.
+     *
+     * @param k     a number of tracked strings
+     * @param depth a depth of the underlying {@link CountMinSketch}
+     * @param width a width of the underlying {@link CountMinSketch}
+     */
+    public HeavyHitters(int k, int depth, int width) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K should be positive");
+        }
+        this.k = k;
+        this.counts = new CountMinSketch(depth, width);
+        this.candidates = new HashMap<>(k * 2);
+    }
+
+    /**
+     * Adds one occurrence of a string.
+     *
+     * @param value a string to add
+     */
+    public void add(String value) {
+        offer(value, counts.add(value));
+    }
+
+    /**
+     * Merges other sketch into this one.
+     *
+     * @param other a sketch to merge
+     * @return this sketch
+     */
+    public HeavyHitters merge(HeavyHitters other) {
+        counts.merge(other.counts);
+        Set<String> values = new HashSet<>(candidates.keySet());
+        values.addAll(other.candidates.keySet());
+        candidates.clear();
+        for (String value : values) {
+            offer(value, counts.estimateCount(value));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the most frequent strings with their estimated counts, ordered by count from the highest.
+     *
+     * @return a map where key is a string, and value is its estimated count
+     */
+    public Map<String, Long> topK() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(candidates.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Long> topK = new LinkedHashMap<>();
+        entries.forEach(entry -> topK.put(entry.getKey(), entry.getValue()));
+        return topK;
+    }
+
+    private void offer(String value, long estimate) {
+        if (candidates.containsKey(value) || candidates.size() < k) {
+            candidates.put(value, estimate);
+            return;
+        }
+        Map.Entry<String, Long> weakest = Collections.min(candidates.entrySet(), Map.Entry.comparingByValue());
+        if (estimate > weakest.getValue()) {
+            candidates.remove(weakest.getKey());
+            candidates.put(value, estimate);
+        }
+    }
+}
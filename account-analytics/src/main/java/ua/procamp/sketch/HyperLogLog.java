@@ -0,0 +1,89 @@
+package ua.procamp.sketch;
+
+/**
+ * {@link HyperLogLog} estimates a number of distinct strings using {@code 2^precision} one-byte registers, so its
+ * memory doesn't depend on the number of added strings. The standard error of the estimate is about
+ * {@code 1.04 / sqrt(2^precision)}, e.g. 0.8% for precision 14.
+ */
+public final class HyperLogLog {
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Creates an empty sketch. Throws {@link IllegalArgumentException} if precision is not in range [4, 18].
+     *
+     * @param precision a number of hash bits that select a register
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException(String.format("Precision %d is not in range [4, 18]", precision));
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds a string to the sketch.
+     *
+     * @param value a string to add
+     */
+    public void add(CharSequence value) {
+        long hash = Hashes.hash(value, 0);
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[register]) {
+            registers[register] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges other sketch into this one. Throws {@link IllegalArgumentException} if sketches have different precision.
+     *
+     * @param other a sketch to merge
+     * @return this sketch
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with different precision");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns an estimated number of distinct strings that were added to the sketch.
+     *
+     * @return estimated number of distinct strings
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeroRegisters > 0) {
+            estimate = m * Math.log((double) m / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
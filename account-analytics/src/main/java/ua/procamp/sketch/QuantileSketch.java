@@ -0,0 +1,174 @@
+package ua.procamp.sketch;
+
+import java.util.Arrays;
+
+/**
+ * {@link QuantileSketch} estimates quantiles of a stream of numbers with a relative error guarantee. Values are counted
+ * in logarithmic buckets {@code (gamma^(i-1), gamma^i]}, where {@code gamma = (1 + accuracy) / (1 - accuracy)}, so every
+ * estimated quantile is within {@code accuracy} of the real one. Each sign keeps at most {@code maxBuckets} buckets;
+ * when the range of values is wider, the smallest magnitudes are collapsed into one bucket, so memory stays fixed.
+ */
+public final class QuantileSketch {
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final Store positives;
+    private final Store negatives;
+    private long zeroCount;
+
+    /**
+     * Creates an empty sketch. Throws {@link IllegalArgumentException} if accuracy is not in range (0, 1) or max number
+     * of buckets is not positive.
+     *
+     * @param relativeAccuracy a relative accuracy of quantiles, e.g. 0.01
+     * @param maxBuckets       a max number of buckets for positive and for negative values
+     */
+    public QuantileSketch(double relativeAccuracy, int maxBuckets) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1) || maxBuckets <= 0) {
+            throw new IllegalArgumentException("Accuracy should be in range (0, 1) and max buckets should be positive");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.positives = new Store(maxBuckets);
+        this.negatives = new Store(maxBuckets);
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value a value to add
+     */
+    public void add(double value) {
+        if (value > 0) {
+            positives.add(index(value));
+        } else if (value < 0) {
+            negatives.add(index(-value));
+        } else {
+            zeroCount++;
+        }
+    }
+
+    /**
+     * Returns a number of added values.
+     *
+     * @return number of values
+     */
+    public long count() {
+        return positives.count + negatives.count + zeroCount;
+    }
+
+    /**
+     * Returns an estimated quantile. Throws {@link IllegalArgumentException} if quantile is not in range [0, 1], and
+     * {@link IllegalStateException} if the sketch is empty.
+     *
+     * @param quantile a quantile, e.g. 0.5 for median and 0.99 for 99th percentile
+     * @return estimated value of the quantile
+     */
+    public double quantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException(String.format("Quantile %s is not in range [0, 1]", quantile));
+        }
+        if (count() == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        long rank = (long) (quantile * (count() - 1));
+        if (rank < negatives.count) {
+            return -value(negatives.indexOfRank(negatives.count - 1 - rank));
+        }
+        rank -= negatives.count;
+        if (rank < zeroCount) {
+            return 0;
+        }
+        return value(positives.indexOfRank(rank - zeroCount));
+    }
+
+    /**
+     * Merges other sketch into this one. Throws {@link IllegalArgumentException} if sketches have different accuracy.
+     *
+     * @param other a sketch to merge
+     * @return this sketch
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        positives.merge(other.positives);
+        negatives.merge(other.negatives);
+        zeroCount += other.zeroCount;
+        return this;
+    }
+
+    private int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /**
+     * Dense bucket counters for indexes {@code [minIndex, minIndex + counts.length)}.
+     */
+    private static class Store {
+        private final long[] counts;
+        private int minIndex;
+        private int maxIndex = Integer.MIN_VALUE;
+        private long count;
+
+        Store(int maxBuckets) {
+            this.counts = new long[maxBuckets];
+        }
+
+        void add(int index) {
+            add(index, 1);
+        }
+
+        void add(int index, long increment) {
+            if (count == 0) {
+                minIndex = index - counts.length + 1;
+                maxIndex = index;
+            } else if (index > maxIndex) {
+                shiftTo(index);
+            }
+            counts[Math.max(index, minIndex) - minIndex] += increment;
+            count += increment;
+        }
+
+        int indexOfRank(long rank) {
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen > rank) {
+                    return minIndex + i;
+                }
+            }
+            return maxIndex;
+        }
+
+        void merge(Store other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] > 0) {
+                    add(other.minIndex + i, other.counts[i]);
+                }
+            }
+        }
+
+        /**
+         * Moves the window up, so {@code newMaxIndex} is its last bucket, collapsing buckets that fall out of the
+         * window into the first one.
+         */
+        private void shiftTo(int newMaxIndex) {
+            int shift = (int) Math.min((long) newMaxIndex - maxIndex, counts.length);
+            long collapsed = 0;
+            for (int i = 0; i < shift; i++) {
+                collapsed += counts[i];
+            }
+            System.arraycopy(counts, shift, counts, 0, counts.length - shift);
+            Arrays.fill(counts, counts.length - shift, counts.length, 0);
+            counts[0] += collapsed;
+            minIndex = newMaxIndex - counts.length + 1;
+            maxIndex = newMaxIndex;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package ua.procamp;
 import ua.procamp.exception.EntityNotFoundException;
 import ua.procamp.model.Account;
 import ua.procamp.model.Sex;
+import org.junit.AfterClass;
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -12,6 +14,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -22,9 +25,20 @@ import static org.junit.Assert.*;
 @RunWith(JUnit4.class)
 public class AccountAnalyticsTest {
 
+    private static ForkJoinPool pool;
     private AccountAnalytics analytics;
     private List<Account> accounts;
 
+    @BeforeClass
+    public static void setUpPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownPool() {
+        pool.shutdown();
+    }
+
     @Before
     public void setUp() {
         accounts = Arrays.asList(
@@ -219,6 +233,241 @@ public class AccountAnalyticsTest {
         assertEquals(3, characterFrequencyInFirstAndLastNames.get('u').longValue());
         assertEquals(1, characterFrequencyInFirstAndLastNames.get('y').longValue());
     }
-}
 
+    @Test
+    public void testReportMatchesQueries() {
+        AccountMetric<List<Account>> aprilAccounts = AccountMetric.accountsByBirthdayMonth(Month.APRIL);
+        AccountMetric<Boolean> containsYahoo = AccountMetric.containsEmailDomain("yahoo.com");
+        AccountMetric<Map<String, BigDecimal>> createdIn2009 = AccountMetric.balancesByEmailForAccountsCreatedOn(2009);
+
+        AccountReport report = analytics.report(AccountMetric.RICHEST_PERSON, AccountMetric.MALE_ACCOUNTS,
+                AccountMetric.ACCOUNTS_BY_EMAIL_DOMAIN, AccountMetric.NUM_OF_LETTERS_IN_FIRST_AND_LAST_NAMES,
+                AccountMetric.TOTAL_BALANCE, AccountMetric.SORTED_BY_FIRST_AND_LAST_NAMES, AccountMetric.ACCOUNTS_BY_ID,
+                AccountMetric.FIRST_NAMES_BY_LAST_NAMES, AccountMetric.COMMA_SEPARATED_FIRST_NAMES_BY_BIRTHDAY_MONTH,
+                AccountMetric.TOTAL_BALANCE_BY_CREATION_MONTH, AccountMetric.CHARACTER_FREQUENCY_IN_FIRST_NAMES,
+                AccountMetric.CHARACTER_FREQUENCY_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES,
+                aprilAccounts, containsYahoo, createdIn2009);
+
+        assertEquals(analytics.findRichestPerson(), report.get(AccountMetric.RICHEST_PERSON));
+        assertEquals(analytics.partitionMaleAccounts(), report.get(AccountMetric.MALE_ACCOUNTS));
+        assertEquals(analytics.groupAccountsByEmailDomain(), report.get(AccountMetric.ACCOUNTS_BY_EMAIL_DOMAIN));
+        assertEquals(analytics.getNumOfLettersInFirstAndLastNames(),
+                report.get(AccountMetric.NUM_OF_LETTERS_IN_FIRST_AND_LAST_NAMES).intValue());
+        assertEquals(analytics.calculateTotalBalance(), report.get(AccountMetric.TOTAL_BALANCE));
+        assertEquals(analytics.sortByFirstAndLastNames(), report.get(AccountMetric.SORTED_BY_FIRST_AND_LAST_NAMES));
+        assertEquals(analytics.collectAccountsById(), report.get(AccountMetric.ACCOUNTS_BY_ID));
+        assertEquals(analytics.groupFirstNamesByLastNames(), report.get(AccountMetric.FIRST_NAMES_BY_LAST_NAMES));
+        assertEquals(analytics.groupCommaSeparatedFirstNamesByBirthdayMonth(),
+                report.get(AccountMetric.COMMA_SEPARATED_FIRST_NAMES_BY_BIRTHDAY_MONTH));
+        assertEquals(analytics.groupTotalBalanceByCreationMonth(),
+                report.get(AccountMetric.TOTAL_BALANCE_BY_CREATION_MONTH));
+        assertEquals(analytics.getCharacterFrequencyInFirstNames(),
+                report.get(AccountMetric.CHARACTER_FREQUENCY_IN_FIRST_NAMES));
+        assertEquals(analytics.getCharacterFrequencyIgnoreCaseInFirstAndLastNames(),
+                report.get(AccountMetric.CHARACTER_FREQUENCY_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES));
+        assertEquals(analytics.findAccountsByBirthdayMonth(Month.APRIL), report.get(aprilAccounts));
+        assertTrue(report.get(containsYahoo));
+        assertEquals(analytics.collectBalancesByIdForAccountsCreatedOn(2009), report.get(createdIn2009));
+    }
+
+    @Test
+    public void testContainsEmailDomainMetric() {
+        AccountMetric<Boolean> containsGmail = AccountMetric.containsEmailDomain("gmail.com");
+        AccountMetric<Boolean> containsUkrNet = AccountMetric.containsEmailDomain("ukr.net");
+
+        AccountReport report = analytics.report(containsGmail, containsUkrNet);
+
+        assertTrue(report.get(containsGmail));
+        assertFalse(report.get(containsUkrNet));
+        assertTrue(AccountAnalytics.of(TestAccounts.generate(10_000), pool).report(containsUkrNet).get(containsUkrNet));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReportThrowsExceptionOnNotRegisteredMetric() {
+        AccountReport report = analytics.report(AccountMetric.TOTAL_BALANCE);
+
+        report.get(AccountMetric.RICHEST_PERSON);
+    }
+
+    @Test
+    public void testParallelQueriesMatchSequentialQueries() {
+        List<Account> manyAccounts = TestAccounts.generate(10_000);
+        AccountAnalytics sequential = AccountAnalytics.of(manyAccounts);
+        AccountAnalytics parallel = AccountAnalytics.of(manyAccounts, pool);
+
+        assertEquals(sequential.findRichestPerson(), parallel.findRichestPerson());
+        assertEquals(sequential.findAccountsByBirthdayMonth(Month.MAY), parallel.findAccountsByBirthdayMonth(Month.MAY));
+        assertEquals(sequential.partitionMaleAccounts(), parallel.partitionMaleAccounts());
+        assertEquals(sequential.groupAccountsByEmailDomain(), parallel.groupAccountsByEmailDomain());
+        assertEquals(sequential.getNumOfLettersInFirstAndLastNames(), parallel.getNumOfLettersInFirstAndLastNames());
+        assertEquals(sequential.calculateTotalBalance(), parallel.calculateTotalBalance());
+        assertEquals(sequential.sortByFirstAndLastNames(), parallel.sortByFirstAndLastNames());
+        assertEquals(sequential.containsAccountWithEmailDomain("mail.com"), parallel.containsAccountWithEmailDomain("mail.com"));
+        assertEquals(sequential.getBalanceByEmail("user7@ukr.net"), parallel.getBalanceByEmail("user7@ukr.net"));
+        assertEquals(sequential.collectAccountsById(), parallel.collectAccountsById());
+        assertEquals(sequential.collectBalancesByIdForAccountsCreatedOn(2015),
+                parallel.collectBalancesByIdForAccountsCreatedOn(2015));
+        assertEquals(sequential.groupFirstNamesByLastNames(), parallel.groupFirstNamesByLastNames());
+        assertEquals(sequential.groupCommaSeparatedFirstNamesByBirthdayMonth(),
+                parallel.groupCommaSeparatedFirstNamesByBirthdayMonth());
+        assertEquals(sequential.groupTotalBalanceByCreationMonth(), parallel.groupTotalBalanceByCreationMonth());
+        assertEquals(sequential.getCharacterFrequencyInFirstNames(), parallel.getCharacterFrequencyInFirstNames());
+        assertEquals(sequential.getCharacterFrequencyIgnoreCaseInFirstAndLastNames(),
+                parallel.getCharacterFrequencyIgnoreCaseInFirstAndLastNames());
+    }
+
+    @Test
+    public void testParallelGetBalanceByEmailThrowsException() {
+        String fakeEmail = "fake@mail.com";
+        try {
+            AccountAnalytics.of(accounts, pool).getBalanceByEmail(fakeEmail);
+            fail("Should throw exception");
+        } catch (Exception e) {
+            assertTrue(e instanceof EntityNotFoundException);
+            assertEquals(String.format("Cannot find Account by email=%s", fakeEmail), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testIndexedQueriesMatchQueries() {
+        AccountAnalytics indexed = AccountAnalytics.of(accounts, AccountIndex.EMAIL, AccountIndex.EMAIL_DOMAIN,
+                AccountIndex.ID);
+
+        assertTrue(indexed.containsAccountWithEmailDomain("gmail.com"));
+        assertTrue(indexed.containsAccountWithEmailDomain("yahoo.com"));
+        assertFalse(indexed.containsAccountWithEmailDomain("ukr.net"));
+        assertEquals(accounts.get(1).getBalance(), indexed.getBalanceByEmail(accounts.get(1).getEmail()));
+        assertEquals(analytics.collectAccountsById(), indexed.collectAccountsById());
+    }
+
+    @Test
+    public void testIndexedGetBalanceByEmailThrowsException() {
+        String fakeEmail = "fake@mail.com";
+        try {
+            AccountAnalytics.of(accounts, AccountIndex.EMAIL).getBalanceByEmail(fakeEmail);
+            fail("Should throw exception");
+        } catch (Exception e) {
+            assertTrue(e instanceof EntityNotFoundException);
+            assertEquals(String.format("Cannot find Account by email=%s", fakeEmail), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testIndexedCollectAccountsByIdReturnsUnmodifiableIndex() {
+        AccountAnalytics indexed = AccountAnalytics.of(accounts, AccountIndex.ID);
 
+        try {
+            indexed.collectAccountsById().clear();
+            fail("Should throw exception");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(accounts.size(), indexed.collectAccountsById().size());
+        }
+    }
+
+    @Test
+    public void testParallelIndexedQueriesMatchSequentialQueries() {
+        List<Account> manyAccounts = TestAccounts.generate(10_000);
+        AccountAnalytics sequential = AccountAnalytics.of(manyAccounts);
+        AccountAnalytics indexed = AccountAnalytics.of(manyAccounts, pool, AccountIndex.values());
+
+        assertEquals(sequential.collectAccountsById(), indexed.collectAccountsById());
+        assertEquals(sequential.getBalanceByEmail("user7@ukr.net"), indexed.getBalanceByEmail("user7@ukr.net"));
+        assertTrue(indexed.containsAccountWithEmailDomain("ukr.net"));
+    }
+
+    @Test
+    public void testStreamingReportMatchesQueries() {
+        AccountMetric<Boolean> containsYahoo = AccountMetric.containsEmailDomain("yahoo.com");
+        AccountMetric<?>[] metrics = {AccountMetric.RICHEST_PERSON, AccountMetric.TOTAL_BALANCE,
+                AccountMetric.NUM_OF_LETTERS_IN_FIRST_AND_LAST_NAMES, AccountMetric.TOTAL_BALANCE_BY_CREATION_MONTH,
+                AccountMetric.CHARACTER_FREQUENCY_IN_FIRST_NAMES,
+                AccountMetric.CHARACTER_FREQUENCY_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES, containsYahoo};
+
+        List<AccountReport> reports = Arrays.asList(
+                AccountAnalytics.streamingReport(accounts.stream(), metrics),
+                AccountAnalytics.streamingReport(accounts.iterator(), metrics),
+                AccountAnalytics.streamingReport(accounts.spliterator(), metrics));
+
+        for (AccountReport report : reports) {
+            assertEquals(analytics.findRichestPerson(), report.get(AccountMetric.RICHEST_PERSON));
+            assertEquals(analytics.calculateTotalBalance(), report.get(AccountMetric.TOTAL_BALANCE));
+            assertEquals(analytics.getNumOfLettersInFirstAndLastNames(),
+                    report.get(AccountMetric.NUM_OF_LETTERS_IN_FIRST_AND_LAST_NAMES).intValue());
+            assertEquals(analytics.groupTotalBalanceByCreationMonth(),
+                    report.get(AccountMetric.TOTAL_BALANCE_BY_CREATION_MONTH));
+            assertEquals(analytics.getCharacterFrequencyInFirstNames(),
+                    report.get(AccountMetric.CHARACTER_FREQUENCY_IN_FIRST_NAMES));
+            assertEquals(analytics.getCharacterFrequencyIgnoreCaseInFirstAndLastNames(),
+                    report.get(AccountMetric.CHARACTER_FREQUENCY_IGNORE_CASE_IN_FIRST_AND_LAST_NAMES));
+            assertTrue(report.get(containsYahoo));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStreamingReportRejectsUnboundedMetric() {
+        AccountAnalytics.streamingReport(accounts.stream(), AccountMetric.TOTAL_BALANCE,
+                AccountMetric.SORTED_BY_FIRST_AND_LAST_NAMES);
+    }
+
+    @Test
+    public void testFindTopKRichest() {
+        List<Account> topKRichest = analytics.findTopKRichest(3);
+
+        assertEquals(Arrays.asList(accounts.get(0), accounts.get(1), accounts.get(3)), topKRichest);
+    }
+
+    @Test
+    public void testFindTopKRichestMatchesSortedAccounts() {
+        List<Account> manyAccounts = TestAccounts.generate(10_000);
+        List<Account> sortedAccounts = new ArrayList<>(manyAccounts);
+        sortedAccounts.sort(Comparator.comparing(Account::getBalance).reversed());
+
+        assertEquals(sortedAccounts.subList(0, 100), AccountAnalytics.of(manyAccounts).findTopKRichest(100));
+        assertEquals(sortedAccounts.subList(0, 100), AccountAnalytics.of(manyAccounts, pool).findTopKRichest(100));
+    }
+
+    @Test
+    public void testEstimateDistinctEmailDomains() {
+        assertEquals(3, analytics.estimateDistinctEmailDomains());
+    }
+
+    @Test
+    public void testEstimateHeavyHitterLastNames() {
+        List<Account> manyAccounts = TestAccounts.generate(10_000);
+
+        Map<String, Long> heavyHitters = AccountAnalytics.of(manyAccounts).estimateHeavyHitterLastNames(2);
+
+        assertEquals(2, heavyHitters.size());
+        heavyHitters.values().forEach(count -> assertTrue(count >= 2_000));
+    }
+
+    @Test
+    public void testEstimateBalanceQuantiles() {
+        assertEquals(172966, analytics.estimateBalanceQuantiles().quantile(1), 172966 * 0.01);
+        assertEquals(13889, analytics.estimateBalanceQuantiles().quantile(0), 13889 * 0.01);
+    }
+
+    @Test
+    public void testGetCharacterHistogramInFirstNames() {
+        CharHistogram histogram = analytics.getCharacterHistogramInFirstNames();
+
+        assertEquals(3, histogram.count('a'));
+        assertEquals(1, histogram.count('J'));
+        assertEquals(0, histogram.count('z'));
+        assertEquals(analytics.getCharacterFrequencyInFirstNames(), histogram.toMap());
+    }
+
+    @Test
+    public void testGetCharacterHistogramIgnoreCaseCountsAccentedCharacters() {
+        List<Account> manyAccounts = TestAccounts.generate(600);
+        AccountAnalytics sequential = AccountAnalytics.of(manyAccounts);
+
+        CharHistogram histogram = sequential.getCharacterHistogramIgnoreCaseInFirstAndLastNames();
+
+        assertEquals(100, histogram.count('\u00e9'));
+        assertEquals(0, histogram.count('\u00c9'));
+        assertEquals(sequential.getCharacterFrequencyIgnoreCaseInFirstAndLastNames(), histogram.toMap());
+        assertEquals(histogram.toMap(),
+                AccountAnalytics.of(manyAccounts, pool).getCharacterHistogramIgnoreCaseInFirstAndLastNames().toMap());
+    }
+}
@@ -0,0 +1,110 @@
+package ua.procamp;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import ua.procamp.data.AccountTable;
+import ua.procamp.exception.EntityNotFoundException;
+import ua.procamp.model.Account;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class AccountTableAnalyticsTest {
+
+    private AccountAnalytics expected;
+    private AccountTableAnalytics analytics;
+
+    @Before
+    public void setUp() {
+        List<Account> accounts = TestAccounts.generate(5_000);
+        expected = AccountAnalytics.of(accounts);
+        analytics = AccountTableAnalytics.of(AccountTable.from(accounts));
+    }
+
+    @Test
+    public void testTableMaterializesEqualAccounts() {
+        List<Account> accounts = TestAccounts.generate(100);
+        AccountTable table = AccountTable.from(accounts);
+
+        assertEquals(accounts.size(), table.size());
+        for (int row = 0; row < table.size(); row++) {
+            Account account = accounts.get(row);
+            Account materialized = table.account(row);
+            assertEquals(account.getId(), materialized.getId());
+            assertEquals(account.getFirstName(), materialized.getFirstName());
+            assertEquals(account.getLastName(), materialized.getLastName());
+            assertEquals(account.getEmail(), materialized.getEmail());
+            assertEquals(account.getBirthday(), materialized.getBirthday());
+            assertEquals(account.getSex(), materialized.getSex());
+            assertEquals(account.getCreationDate(), materialized.getCreationDate());
+            assertEquals(account.getBalance(), materialized.getBalance());
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testTableRejectsFractionsOfCents() {
+        Account account = TestAccounts.generate(1).get(0);
+        account.setBalance(new BigDecimal("10.005"));
+
+        AccountTable.from(List.of(account));
+    }
+
+    @Test
+    public void testRowOfEmailFindsFirstRowWithEmail() {
+        List<Account> accounts = TestAccounts.generate(1_000);
+        Account duplicate = TestAccounts.generate(1_000).get(10);
+        duplicate.setBalance(new BigDecimal("-1"));
+        accounts.add(duplicate);
+        AccountTable table = AccountTable.from(accounts);
+
+        for (int row = 0; row < 1_000; row++) {
+            assertEquals(row, table.rowOfEmail(accounts.get(row).getEmail()));
+        }
+        assertEquals(-1, table.rowOfEmail("fake@mail.com"));
+        assertEquals(accounts.get(10).getBalance(),
+                AccountTableAnalytics.of(table).getBalanceByEmail(duplicate.getEmail()));
+        assertEquals(-1, AccountTable.from(List.of()).rowOfEmail("fake@mail.com"));
+    }
+
+    @Test
+    public void testQueriesMatchAccountAnalytics() {
+        assertEquals(expected.findRichestPerson(), analytics.findRichestPerson());
+        assertEquals(expected.findAccountsByBirthdayMonth(Month.MAY), analytics.findAccountsByBirthdayMonth(Month.MAY));
+        assertEquals(expected.partitionMaleAccounts(), analytics.partitionMaleAccounts());
+        assertEquals(expected.groupAccountsByEmailDomain(), analytics.groupAccountsByEmailDomain());
+        assertEquals(expected.getNumOfLettersInFirstAndLastNames(), analytics.getNumOfLettersInFirstAndLastNames());
+        assertEquals(expected.calculateTotalBalance(), analytics.calculateTotalBalance());
+        assertEquals(expected.sortByFirstAndLastNames(), analytics.sortByFirstAndLastNames());
+        assertTrue(analytics.containsAccountWithEmailDomain("mail.com"));
+        assertFalse(analytics.containsAccountWithEmailDomain("fake.com"));
+        assertEquals(expected.getBalanceByEmail("user7@ukr.net"), analytics.getBalanceByEmail("user7@ukr.net"));
+        assertEquals(expected.collectAccountsById(), analytics.collectAccountsById());
+        assertEquals(expected.collectBalancesByIdForAccountsCreatedOn(2015),
+                analytics.collectBalancesByIdForAccountsCreatedOn(2015));
+        assertEquals(expected.groupFirstNamesByLastNames(), analytics.groupFirstNamesByLastNames());
+        assertEquals(expected.groupCommaSeparatedFirstNamesByBirthdayMonth(),
+                analytics.groupCommaSeparatedFirstNamesByBirthdayMonth());
+        assertEquals(expected.groupTotalBalanceByCreationMonth(), analytics.groupTotalBalanceByCreationMonth());
+        assertEquals(expected.getCharacterFrequencyInFirstNames(), analytics.getCharacterFrequencyInFirstNames());
+        assertEquals(expected.getCharacterFrequencyIgnoreCaseInFirstAndLastNames(),
+                analytics.getCharacterFrequencyIgnoreCaseInFirstAndLastNames());
+    }
+
+    @Test
+    public void testGetBalanceByEmailThrowsException() {
+        String fakeEmail = "fake@mail.com";
+        try {
+            analytics.getBalanceByEmail(fakeEmail);
+            fail("Should throw exception");
+        } catch (Exception e) {
+            assertTrue(e instanceof EntityNotFoundException);
+            assertEquals(String.format("Cannot find Account by email=%s", fakeEmail), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package ua.procamp;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import ua.procamp.exception.EntityNotFoundException;
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class IncrementalAccountAnalyticsTest {
+
+    private List<Account> accounts;
+    private IncrementalAccountAnalytics analytics;
+
+    @Before
+    public void setUp() {
+        accounts = new ArrayList<>(Arrays.asList(
+                new Account(1L, "Justin", "Butler", "justin.butler@gmail.com",
+                        LocalDate.parse("2003-04-17"), Sex.MALE, LocalDate.parse("2016-06-13"), BigDecimal.valueOf(172966)),
+                new Account(2L, "Olivia", "Cardenas", "cardenas@mail.com",
+                        LocalDate.parse("1930-01-19"), Sex.FEMALE, LocalDate.parse("2014-06-21"), BigDecimal.valueOf(38029)),
+                new Account(3L, "Nolan", "Donovan", "nolandonovan@gmail.com",
+                        LocalDate.parse("1925-04-19"), Sex.MALE, LocalDate.parse("2011-03-10"), BigDecimal.valueOf(13889)),
+                new Account(4L, "Lucas", "Lynn", "lucas.lynn@yahoo.com",
+                        LocalDate.parse("1987-05-25"), Sex.MALE, LocalDate.parse("2009-03-05"), BigDecimal.valueOf(16980))
+        ));
+        analytics = IncrementalAccountAnalytics.of(accounts);
+    }
+
+    @Test
+    public void testInitialAggregates() {
+        assertMatchesAccounts();
+    }
+
+    @Test
+    public void testAdd() {
+        Account account = new Account(5L, "Amelia", "Smith", "amelia@ukr.net",
+                LocalDate.parse("1990-02-02"), Sex.FEMALE, LocalDate.parse("2018-12-01"), new BigDecimal("100.25"));
+        accounts.add(account);
+        analytics.add(account);
+
+        assertMatchesAccounts();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddExistingEmailThrowsException() {
+        analytics.add(accounts.get(0));
+    }
+
+    @Test
+    public void testUpdate() {
+        Account account = accounts.get(1);
+        account.setBalance(new BigDecimal("10.50"));
+        account.setCreationDate(LocalDate.parse("2014-03-21"));
+        account.setSex(Sex.MALE);
+        analytics.update(account);
+
+        assertMatchesAccounts();
+    }
+
+    @Test
+    public void testRemove() {
+        Account account = new Account(5L, "Amelia", "Smith", "amelia@ukr.net",
+                LocalDate.parse("1990-02-02"), Sex.FEMALE, LocalDate.parse("2018-12-01"), new BigDecimal("100.25"));
+        analytics.add(account);
+        analytics.remove(account);
+        analytics.remove(accounts.remove(0));
+
+        assertMatchesAccounts();
+    }
+
+    @Test
+    public void testRemoveNotExistingAccountThrowsException() {
+        String fakeEmail = "fake@mail.com";
+        Account account = new Account();
+        account.setEmail(fakeEmail);
+        try {
+            analytics.remove(account);
+            fail("Should throw exception");
+        } catch (Exception e) {
+            assertTrue(e instanceof EntityNotFoundException);
+            assertEquals(String.format("Cannot find Account by email=%s", fakeEmail), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFailedAddLeavesAggregatesUnchanged() {
+        Account account = new Account(5L, "Amelia", "Smith", "amelia@ukr.net",
+                LocalDate.parse("1990-02-02"), Sex.FEMALE, LocalDate.parse("2018-12-01"), null);
+        try {
+            analytics.add(account);
+            fail("Should throw exception");
+        } catch (NullPointerException e) {
+            assertMatchesAccounts();
+        }
+
+        account.setBalance(new BigDecimal("100.25"));
+        accounts.add(account);
+        analytics.add(account);
+        assertMatchesAccounts();
+    }
+
+    @Test
+    public void testFailedUpdateLeavesAggregatesUnchanged() {
+        Account account = accounts.get(1);
+        Account invalidAccount = new Account(2L, "Olivia", "Cardenas", account.getEmail(),
+                LocalDate.parse("1930-01-19"), Sex.MALE, null, new BigDecimal("10.50"));
+        try {
+            analytics.update(invalidAccount);
+            fail("Should throw exception");
+        } catch (NullPointerException e) {
+            assertMatchesAccounts();
+        }
+
+        analytics.remove(accounts.remove(1));
+        assertMatchesAccounts();
+    }
+
+    @Test
+    public void testPartitionIsLiveUnmodifiableView() {
+        Map<Boolean, List<Account>> partition = analytics.partitionMaleAccounts();
+        Account account = new Account(5L, "Amelia", "Smith", "amelia@ukr.net",
+                LocalDate.parse("1990-02-02"), Sex.FEMALE, LocalDate.parse("2018-12-01"), new BigDecimal("100.25"));
+        accounts.add(account);
+        analytics.add(account);
+
+        assertSame(partition, analytics.partitionMaleAccounts());
+        assertEquals(Arrays.asList(accounts.get(1), account), partition.get(false));
+        assertEquals(account, partition.get(false).get(1));
+        assertEquals(accounts.get(3), partition.get(true).listIterator(3).previous());
+        try {
+            partition.get(true).remove(0);
+            fail("Should throw exception");
+        } catch (UnsupportedOperationException e) {
+            assertMatchesAccounts();
+        }
+    }
+
+    private void assertMatchesAccounts() {
+        AccountAnalytics expected = AccountAnalytics.of(accounts);
+
+        assertEquals(expected.calculateTotalBalance(), analytics.calculateTotalBalance());
+        assertEquals(expected.groupTotalBalanceByCreationMonth(), analytics.groupTotalBalanceByCreationMonth());
+        assertEquals(expected.partitionMaleAccounts(), analytics.partitionMaleAccounts());
+    }
+}
@@ -0,0 +1,35 @@
+package ua.procamp;
+
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates deterministic accounts for tests. Account {@code i} has id {@code i} and email {@code user<i>@<domain>},
+ * where domains are gmail.com, mail.com, yahoo.com and ukr.net in turn. Balances are distinct and have scales from
+ * -3 to 2, while birthdays are spread around the epoch.
+ */
+final class TestAccounts {
+    private static final String[] FIRST_NAMES = {"Justin", "Olivia", "Nolan", "Lucas", "Amelia", "\u00c9mile"};
+    private static final String[] LAST_NAMES = {"Butler", "Cardenas", "Donovan", "Lynn", "Smith"};
+    private static final String[] DOMAINS = {"gmail.com", "mail.com", "yahoo.com", "ukr.net"};
+    private static final String[] BALANCES = {"0", "17.5", "12.25", "1E+3", "200000"};
+
+    private TestAccounts() {
+    }
+
+    static List<Account> generate(int size) {
+        List<Account> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            accounts.add(new Account((long) i, FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[i % LAST_NAMES.length],
+                    "user" + i + "@" + DOMAINS[i % DOMAINS.length], LocalDate.ofEpochDay(i % 20_000 - 10_000),
+                    i % 3 == 0 ? Sex.FEMALE : Sex.MALE, LocalDate.ofEpochDay(14_000 + i % 3_000),
+                    new BigDecimal(BALANCES[i % BALANCES.length]).add(BigDecimal.valueOf(i))));
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,121 @@
+package ua.procamp.sketch;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class SketchTest {
+
+    @Test
+    public void testHyperLogLogEstimate() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        for (int i = 0; i < 300_000; i++) {
+            sketch.add("domain" + (i % 100_000) + ".com");
+        }
+
+        assertEquals(100_000, sketch.estimate(), 100_000 * 0.03);
+    }
+
+    @Test
+    public void testHyperLogLogSmallCardinality() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        sketch.add("gmail.com");
+        sketch.add("yahoo.com");
+        sketch.add("gmail.com");
+
+        assertEquals(2, sketch.estimate());
+    }
+
+    @Test
+    public void testHyperLogLogMerge() {
+        HyperLogLog left = new HyperLogLog(12);
+        HyperLogLog right = new HyperLogLog(12);
+        for (int i = 0; i < 20_000; i++) {
+            (i % 2 == 0 ? left : right).add("value" + i);
+        }
+
+        assertEquals(20_000, left.merge(right).estimate(), 20_000 * 0.06);
+    }
+
+    @Test
+    public void testCountMinSketchNeverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add("name" + (i % 500));
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(sketch.estimateCount("name" + i) >= 20);
+        }
+        assertEquals(10_000, sketch.total());
+    }
+
+    @Test
+    public void testHeavyHitters() {
+        HeavyHitters left = new HeavyHitters(2, 4, 512);
+        HeavyHitters right = new HeavyHitters(2, 4, 512);
+        for (int i = 0; i < 10_000; i++) {
+            HeavyHitters sketch = i % 2 == 0 ? left : right;
+            sketch.add("rare" + i);
+            if (i % 3 == 0) {
+                sketch.add("Smith");
+            }
+            if (i % 5 == 0) {
+                sketch.add("Lynn");
+            }
+        }
+
+        Map<String, Long> topK = left.merge(right).topK();
+
+        assertEquals(Arrays.asList("Smith", "Lynn"), Arrays.asList(topK.keySet().toArray()));
+        assertTrue(topK.get("Smith") >= 3334);
+    }
+
+    @Test
+    public void testQuantileSketchRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.01, 2048);
+        Random random = new Random(42);
+        double[] values = new double[100_001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(200_000) - 1_000;
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double quantile : new double[]{0, 0.1, 0.5, 0.9, 0.99, 1}) {
+            double expected = values[(int) (quantile * (values.length - 1))];
+            assertEquals(expected, sketch.quantile(quantile), Math.abs(expected) * 0.01 + 1e-9);
+        }
+    }
+
+    @Test
+    public void testQuantileSketchMerge() {
+        QuantileSketch left = new QuantileSketch(0.01, 2048);
+        QuantileSketch right = new QuantileSketch(0.01, 2048);
+        for (int i = 1; i <= 1000; i++) {
+            (i <= 500 ? left : right).add(i);
+        }
+
+        QuantileSketch merged = left.merge(right);
+
+        assertEquals(1000, merged.count());
+        assertEquals(500, merged.quantile(0.5), 5);
+    }
+
+    @Test
+    public void testQuantileSketchCollapsesLowestBuckets() {
+        QuantileSketch sketch = new QuantileSketch(0.01, 16);
+        sketch.add(0.001);
+        sketch.add(1_000_000);
+
+        assertEquals(1_000_000, sketch.quantile(1), 10_000);
+        assertTrue(sketch.quantile(0) < 1_000_000);
+    }
+}
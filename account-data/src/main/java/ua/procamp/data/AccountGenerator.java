@@ -0,0 +1,143 @@
+package ua.procamp.data;
+
+import io.codearte.jfairy.Fairy;
+import io.codearte.jfairy.producer.person.Person;
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.LongStream.range;
+
+/**
+ * {@link AccountGenerator} generates large numbers of fake accounts fast. Creating a {@link Fairy} person is expensive,
+ * so a generator draws a fixed pool of persons from a single seeded {@link Fairy} once, and then builds every account by
+ * combining pool entries and cheap random fields.
+ * <p>
+ * An account is a pure function of the generator seed and the account index, so accounts can be generated in parallel,
+ * in any order and in any partitioning, and the same seed always produces the same accounts. Ids are equal to
+ * {@code index + 1}, and emails are unique within a generator.
+ */
+public final class AccountGenerator {
+    private static final int DEFAULT_POOL_SIZE = 1024;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final int MIN_BIRTHDAY = (int) LocalDate.of(1930, 1, 1).toEpochDay();
+    private static final int MAX_BIRTHDAY = (int) LocalDate.of(2005, 1, 1).toEpochDay();
+    private static final int MIN_CREATION_DATE = (int) LocalDate.of(2010, 1, 1).toEpochDay();
+    private static final int MAX_CREATION_DATE = (int) LocalDate.of(2020, 1, 1).toEpochDay();
+
+    private final long seed;
+    private final String[] firstNames;
+    private final Sex[] sexes;
+    private final String[] lastNames;
+    private final String[] emailDomains;
+
+    /**
+     * Creates a generator with a pool of 1024 persons.
+     *
+     * @param seed a seed that defines all generated accounts
+     * @return a new generator
+     */
+    public static AccountGenerator create(long seed) {
+        return create(seed, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Creates a generator with provided pool size. A bigger pool gives more distinct names, but takes more time to
+     * create. Throws {@link IllegalArgumentException} if pool size is not positive.
+     *
+     * @param seed     a seed that defines all generated accounts
+     * @param poolSize a number of persons produced by {@link Fairy}
+     * @return a new generator
+     */
+    public static AccountGenerator create(long seed, int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Pool size should be positive");
+        }
+        return new AccountGenerator(seed, poolSize);
+    }
+
+    private AccountGenerator(long seed, int poolSize) {
+        this.seed = seed;
+        Fairy fairy = Fairy.builder().withLocale(Locale.ENGLISH).withRandomSeed(seed).build();
+        firstNames = new String[poolSize];
+        sexes = new Sex[poolSize];
+        lastNames = new String[poolSize];
+        Set<String> domains = new LinkedHashSet<>();
+        for (int i = 0; i < poolSize; i++) {
+            Person person = fairy.person();
+            firstNames[i] = person.getFirstName();
+            sexes[i] = Sex.valueOf(person.getSex().name());
+            lastNames[i] = person.getLastName();
+            domains.add(person.getEmail().substring(person.getEmail().indexOf('@') + 1));
+        }
+        emailDomains = domains.toArray(new String[0]);
+    }
+
+    /**
+     * Returns an account by its index. The same generator always returns equal accounts for the same index.
+     *
+     * @param index a non-negative account index
+     * @return a new account
+     */
+    public Account account(long index) {
+        long random = seed + (index + 1) * GOLDEN_GAMMA;
+        int person = nextInt(random = mix(random), firstNames.length);
+        String lastName = lastNames[nextInt(random = mix(random), lastNames.length)];
+        String emailDomain = emailDomains[nextInt(random = mix(random), emailDomains.length)];
+        int birthday = MIN_BIRTHDAY + nextInt(random = mix(random), MAX_BIRTHDAY - MIN_BIRTHDAY);
+        int creationDate = MIN_CREATION_DATE + nextInt(random = mix(random), MAX_CREATION_DATE - MIN_CREATION_DATE);
+        int balance = nextInt(mix(random), 200_000);
+
+        Account account = new Account();
+        account.setId(index + 1);
+        account.setFirstName(firstNames[person]);
+        account.setLastName(lastName);
+        account.setEmail(firstNames[person].toLowerCase(Locale.ROOT) + "." + lastName.toLowerCase(Locale.ROOT)
+                + (index + 1) + "@" + emailDomain);
+        account.setBirthday(LocalDate.ofEpochDay(birthday));
+        account.setSex(sexes[person]);
+        account.setCreationDate(LocalDate.ofEpochDay(creationDate));
+        account.setBalance(BigDecimal.valueOf(balance));
+        return account;
+    }
+
+    /**
+     * Returns a lazy sequential stream of accounts with indexes from zero to {@code size - 1}. Accounts are created
+     * while the stream is consumed, so the stream can be larger than heap. Call {@link Stream#parallel()} to generate
+     * accounts in parallel, that gives the same accounts.
+     *
+     * @param size a number of accounts
+     * @return a stream of accounts
+     */
+    public Stream<Account> stream(long size) {
+        return range(0, size).mapToObj(this::account);
+    }
+
+    /**
+     * Generates a list of accounts in parallel.
+     *
+     * @param size a number of accounts
+     * @return a list of accounts ordered by index
+     */
+    public List<Account> list(int size) {
+        return stream(size).parallel().collect(toList());
+    }
+
+    private static int nextInt(long random, int bound) {
+        return (int) (((random >>> 32) * bound) >>> 32);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,49 @@
+package ua.procamp.data;
+
+/**
+ * Constants of the account snapshot binary format, version 1.
+ * <p>
+ * A snapshot starts with magic bytes "ACCS" and a version byte, followed by records. Each record starts with a tag
+ * byte: {@link #ACCOUNT} is followed by an account, and {@link #END} marks the end of the snapshot. An account starts
+ * with a varint of field flags, followed by present fields in this order:
+ * <ul>
+ * <li>id as a zigzag varint delta from the previous id</li>
+ * <li>first and last names as dictionary strings</li>
+ * <li>email as a raw string of the part before '@' and a dictionary string of the domain</li>
+ * <li>birthday and creation date as zigzag varint epoch days</li>
+ * <li>balance as a zigzag varint scale and a zigzag varint unscaled value, or a length-prefixed two's complement
+ * unscaled value if it doesn't fit into a long</li>
+ * </ul>
+ * A raw string is a varint length followed by UTF-8 bytes. A dictionary string is a varint {@code code + 1} of a
+ * string that was already written, or zero followed by a raw string, that gets the next code.
+ */
+final class AccountSnapshotFormat {
+    static final byte[] MAGIC = {'A', 'C', 'C', 'S'};
+    static final byte VERSION = 1;
+
+    static final byte END = 0;
+    static final byte ACCOUNT = 1;
+
+    static final int ID = 1;
+    static final int FIRST_NAME = 1 << 1;
+    static final int LAST_NAME = 1 << 2;
+    static final int EMAIL = 1 << 3;
+    static final int EMAIL_DOMAIN = 1 << 4;
+    static final int BIRTHDAY = 1 << 5;
+    static final int SEX = 1 << 6;
+    static final int MALE = 1 << 7;
+    static final int CREATION_DATE = 1 << 8;
+    static final int BALANCE = 1 << 9;
+    static final int BIG_BALANCE = 1 << 10;
+
+    private AccountSnapshotFormat() {
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,473 @@
+package ua.procamp.data;
+
+import ua.procamp.exception.SnapshotFormatException;
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static ua.procamp.data.AccountSnapshotFormat.*;
+
+/**
+ * {@link AccountSnapshotReader} reads accounts from a snapshot written by {@link AccountSnapshotWriter}. A snapshot file
+ * is memory-mapped, so the reader decodes records straight from the page cache without copying the file into heap, and
+ * accounts are created lazily one by one while the reader is iterated. Use {@link AccountSnapshotReader#readTable()} to
+ * load a snapshot into {@link AccountTable} without creating {@link Account} objects at all.
+ * <p>
+ * Records are decoded from a byte array: the array of a heap buffer, or a small window that is copied from a mapped
+ * buffer in bulk, so a field costs plain array reads instead of a buffer call per byte. Dictionary strings are decoded
+ * once, and {@link AccountSnapshotReader#readTable()} maps their snapshot codes to table codes with arrays, so rows are
+ * appended without hashing names. The only object created per row of a table is its email string.
+ * <p>
+ * The target of loading ten million accounts well under a second is not met. On a single core with a 3 GB heap and
+ * the serial collector, a 389 MB snapshot of ten million generated accounts takes about 3.4 s to read into a table,
+ * of which about 1.4 s is spent collecting garbage while ten million email strings stay reachable, and about 1.9 s to
+ * iterate as accounts. Touching every page of the mapped file alone takes about 0.3 s there.
+ * <p>
+ * A reader is single-use and is not thread-safe. A malformed or truncated snapshot is reported with
+ * {@link SnapshotFormatException}.
+ */
+public final class AccountSnapshotReader implements Iterator<Account> {
+    private static final int TABLE_FIELDS = ID | FIRST_NAME | LAST_NAME | EMAIL | BIRTHDAY | SEX | CREATION_DATE
+            | BALANCE;
+    private static final int ALL_FIELDS = (BIG_BALANCE << 1) - 1;
+    private static final int MAX_VARINT_LENGTH = 10;
+    private static final int WINDOW_SIZE = 1 << 16;
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    private final ByteBuffer buffer;
+    private final List<String> dictionary = new ArrayList<>();
+    private final List<byte[]> dictionaryBytes = new ArrayList<>();
+    private byte[] bytes;
+    private int offset;
+    private int limit;
+    private int windowStart;
+    private byte[] scratch = new byte[64];
+    private long previousId;
+
+    private int flags;
+    private long id;
+    private int firstName;
+    private int lastName;
+    private String email;
+    private int emailDomain;
+    private long birthday;
+    private long creationDate;
+    private int balanceScale;
+    private long unscaledBalance;
+    private BigInteger bigUnscaledBalance;
+
+    /**
+     * Opens a snapshot file by mapping it into memory. A mapped file can be at most 2 GB. The file channel is closed
+     * before this method returns, while the mapping stays valid until the reader is garbage collected.
+     *
+     * @param path a snapshot file path
+     * @return a new reader
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static AccountSnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new SnapshotFormatException(String.format("Snapshot %s is larger than 2 GB", path));
+            }
+            return from(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Creates a reader of a snapshot stored in a buffer from its current position.
+     *
+     * @param buffer a buffer with a snapshot
+     * @return a new reader
+     */
+    public static AccountSnapshotReader from(ByteBuffer buffer) {
+        return new AccountSnapshotReader(buffer);
+    }
+
+    private AccountSnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+        if (this.buffer.hasArray()) {
+            bytes = this.buffer.array();
+            offset = this.buffer.arrayOffset();
+            limit = offset + this.buffer.limit();
+            windowStart = -offset;
+            this.buffer.position(this.buffer.limit());
+        } else {
+            bytes = new byte[WINDOW_SIZE];
+        }
+        readHeader();
+    }
+
+    /**
+     * Checks if there is one more account in the snapshot. Throws {@link SnapshotFormatException} if the snapshot ends
+     * without the end record.
+     *
+     * @return {@code true} if there is an account to read, {@code false} if the end of the snapshot is reached
+     */
+    @Override
+    public boolean hasNext() {
+        require(1);
+        byte tag = bytes[offset];
+        if (tag != ACCOUNT && tag != END) {
+            throw new SnapshotFormatException(String.format("Unknown record tag %d at position %d",
+                    tag, position()));
+        }
+        return tag == ACCOUNT;
+    }
+
+    /**
+     * Reads the next account.
+     *
+     * @return a new account
+     */
+    @Override
+    public Account next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("End of snapshot is reached");
+        }
+        readRecord();
+        Account account = new Account();
+        if ((flags & ID) != 0) {
+            account.setId(id);
+        }
+        account.setFirstName(firstName >= 0 ? dictionary.get(firstName) : null);
+        account.setLastName(lastName >= 0 ? dictionary.get(lastName) : null);
+        account.setEmail(email);
+        if ((flags & BIRTHDAY) != 0) {
+            account.setBirthday(LocalDate.ofEpochDay(birthday));
+        }
+        if ((flags & SEX) != 0) {
+            account.setSex((flags & MALE) != 0 ? Sex.MALE : Sex.FEMALE);
+        }
+        if ((flags & CREATION_DATE) != 0) {
+            account.setCreationDate(LocalDate.ofEpochDay(creationDate));
+        }
+        if ((flags & BIG_BALANCE) != 0) {
+            account.setBalance(new BigDecimal(bigUnscaledBalance, balanceScale));
+        } else if ((flags & BALANCE) != 0) {
+            account.setBalance(BigDecimal.valueOf(unscaledBalance, balanceScale));
+        } else {
+            account.setBalance(null);
+        }
+        return account;
+    }
+
+    /**
+     * Returns a lazy sequential stream of remaining accounts.
+     *
+     * @return a stream of accounts
+     */
+    public Stream<Account> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Reads all remaining accounts.
+     *
+     * @return a list of accounts in the snapshot order
+     */
+    public List<Account> readAll() {
+        List<Account> accounts = new ArrayList<>();
+        forEachRemaining(accounts::add);
+        return accounts;
+    }
+
+    /**
+     * Reads all remaining accounts into a new {@link AccountTable}. Fields are decoded directly into table columns, so
+     * no {@link Account}, {@link LocalDate} or {@link BigDecimal} objects are created. The same restrictions as for
+     * {@link AccountTable#from(Iterable)} apply.
+     *
+     * @return a new table
+     */
+    public AccountTable readTable() {
+        AccountTable table = new AccountTable(Math.max(16, remaining() / 32));
+        CodeMapping firstNames = new CodeMapping(table.firstNameDictionary());
+        CodeMapping lastNames = new CodeMapping(table.lastNameDictionary());
+        CodeMapping emailDomains = new CodeMapping(table.emailDomainDictionary());
+        while (hasNext()) {
+            readRow(table, firstNames, lastNames, emailDomains);
+        }
+        table.trim();
+        return table;
+    }
+
+    /**
+     * Reads the next record into a new row of a table.
+     */
+    private void readRow(AccountTable table, CodeMapping firstNames, CodeMapping lastNames,
+                         CodeMapping emailDomains) {
+        readRecord();
+        if ((flags & BIG_BALANCE) != 0) {
+            throw new ArithmeticException(String.format("Balance %s cannot be stored as cents",
+                    new BigDecimal(bigUnscaledBalance, balanceScale)));
+        }
+        if ((flags & TABLE_FIELDS) != TABLE_FIELDS) {
+            throw new NullPointerException(String.format("Account id=%s has null fields",
+                    (flags & ID) != 0 ? id : null));
+        }
+        int emailDomainCode = emailDomain >= 0 ? emailDomains.tableCode(emailDomain)
+                : table.emailDomainDictionary().encode(email.substring(email.indexOf('@') + 1));
+        table.appendEncodedRow(id, firstNames.tableCode(firstName), lastNames.tableCode(lastName), email,
+                emailDomainCode, toTableEpochDay(birthday), (flags & MALE) != 0, toTableEpochDay(creationDate),
+                unscaledBalance, balanceScale);
+    }
+
+    private void readHeader() {
+        for (byte magic : MAGIC) {
+            if (readByte() != magic) {
+                throw new SnapshotFormatException("Not an account snapshot");
+            }
+        }
+        byte version = readByte();
+        if (version != VERSION) {
+            throw new SnapshotFormatException(String.format("Unsupported snapshot version %d", version));
+        }
+    }
+
+    private void readRecord() {
+        offset++;
+        long fieldFlags = readVarint();
+        if ((fieldFlags & ~ALL_FIELDS) != 0 || (fieldFlags & (BALANCE | BIG_BALANCE)) == BIG_BALANCE) {
+            throw new SnapshotFormatException(String.format("Invalid field flags %d at position %d",
+                    fieldFlags, position()));
+        }
+        flags = (int) fieldFlags;
+        if ((flags & ID) != 0) {
+            id = previousId + unzigzag(readVarint());
+            previousId = id;
+        }
+        firstName = (flags & FIRST_NAME) != 0 ? readDictionaryCode() : -1;
+        lastName = (flags & LAST_NAME) != 0 ? readDictionaryCode() : -1;
+        if ((flags & EMAIL_DOMAIN) != 0) {
+            readEmail();
+        } else {
+            emailDomain = -1;
+            email = (flags & EMAIL) != 0 ? readRawString() : null;
+        }
+        if ((flags & BIRTHDAY) != 0) {
+            birthday = readEpochDay();
+        }
+        if ((flags & CREATION_DATE) != 0) {
+            creationDate = readEpochDay();
+        }
+        if ((flags & BALANCE) != 0) {
+            long scale = unzigzag(readVarint());
+            if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+                throw new SnapshotFormatException(String.format("Balance scale %d is out of range at position %d",
+                        scale, position()));
+            }
+            balanceScale = (int) scale;
+            if ((flags & BIG_BALANCE) != 0) {
+                int length = readLength();
+                if (length == 0) {
+                    throw new SnapshotFormatException(String.format("Empty balance at position %d", position()));
+                }
+                require(length);
+                bigUnscaledBalance = new BigInteger(bytes, offset, length);
+                offset += length;
+            } else {
+                unscaledBalance = unzigzag(readVarint());
+            }
+        }
+    }
+
+    /**
+     * Reads the local part and the domain code of an email, and decodes them together with '@' into a single string.
+     */
+    private void readEmail() {
+        int length = readLength();
+        require(length);
+        int localOffset = offset;
+        offset += length;
+        emailDomain = readDictionaryCode();
+        byte[] domain = dictionaryBytes.get(emailDomain);
+        int emailLength = length + 1 + domain.length;
+        if (scratch.length < emailLength) {
+            scratch = new byte[Math.max(emailLength, scratch.length * 2)];
+        }
+        System.arraycopy(bytes, localOffset, scratch, 0, length);
+        scratch[length] = '@';
+        System.arraycopy(domain, 0, scratch, length + 1, domain.length);
+        email = new String(scratch, 0, emailLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a dictionary string and returns its code in the snapshot dictionary.
+     */
+    private int readDictionaryCode() {
+        long code = readVarint();
+        if (code == 0) {
+            int length = readLength();
+            require(length);
+            byte[] value = Arrays.copyOfRange(bytes, offset, offset + length);
+            offset += length;
+            dictionary.add(new String(value, StandardCharsets.UTF_8));
+            dictionaryBytes.add(value);
+            return dictionary.size() - 1;
+        }
+        if (code < 0 || code > dictionary.size()) {
+            throw new SnapshotFormatException(String.format("Unknown dictionary code %d at position %d",
+                    code - 1, position()));
+        }
+        return (int) (code - 1);
+    }
+
+    private String readRawString() {
+        int length = readLength();
+        require(length);
+        String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        offset += length;
+        return value;
+    }
+
+    private int readLength() {
+        long length = readVarint();
+        if (length < 0) {
+            throw new SnapshotFormatException(String.format("Negative length %d at position %d",
+                    length, position()));
+        }
+        if (length > remaining()) {
+            throw truncated();
+        }
+        return (int) length;
+    }
+
+    private long readEpochDay() {
+        long epochDay = unzigzag(readVarint());
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new SnapshotFormatException(String.format("Epoch day %d is out of range at position %d",
+                    epochDay, position()));
+        }
+        return epochDay;
+    }
+
+    private int toTableEpochDay(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new SnapshotFormatException(String.format("Epoch day %d of account id=%d cannot be stored in a table",
+                    epochDay, id));
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Reads a varint. When there are enough bytes for the longest varint, it is decoded without checking the bounds
+     * of every byte.
+     */
+    private long readVarint() {
+        if (limit - offset < MAX_VARINT_LENGTH) {
+            return readVarintNearLimit();
+        }
+        byte[] bytes = this.bytes;
+        int offset = this.offset;
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = bytes[offset++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                this.offset = offset;
+                return value;
+            }
+        }
+        this.offset = offset;
+        throw new SnapshotFormatException(String.format("Malformed varint at position %d", position()));
+    }
+
+    private long readVarintNearLimit() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new SnapshotFormatException(String.format("Malformed varint at position %d", position()));
+    }
+
+    private byte readByte() {
+        require(1);
+        return bytes[offset++];
+    }
+
+    /**
+     * Makes sure that the next {@code count} bytes are in the byte array, copying the rest of the window and the next
+     * bytes of a mapped buffer to the start of the window if they are not.
+     */
+    private void require(int count) {
+        if (limit - offset >= count) {
+            return;
+        }
+        int kept = limit - offset;
+        if (kept + buffer.remaining() < count) {
+            throw truncated();
+        }
+        byte[] window = count > bytes.length ? new byte[Math.max(count, 2 * bytes.length)] : bytes;
+        System.arraycopy(bytes, offset, window, 0, kept);
+        int copied = Math.min(window.length - kept, buffer.remaining());
+        buffer.get(window, kept, copied);
+        windowStart += offset;
+        bytes = window;
+        offset = 0;
+        limit = kept + copied;
+    }
+
+    /**
+     * Returns the position of the next byte in the snapshot, which is used in error messages.
+     */
+    private int position() {
+        return windowStart + offset;
+    }
+
+    private int remaining() {
+        return limit - offset + buffer.remaining();
+    }
+
+    private SnapshotFormatException truncated() {
+        return new SnapshotFormatException("Snapshot is truncated");
+    }
+
+    /**
+     * Maps codes of the snapshot dictionary to codes of a table dictionary. A string is encoded into the table
+     * dictionary when its snapshot code shows up in the column for the first time.
+     */
+    private final class CodeMapping {
+        private final StringDictionary target;
+        private int[] codes = new int[16];
+
+        CodeMapping(StringDictionary target) {
+            this.target = target;
+        }
+
+        int tableCode(int code) {
+            if (code >= codes.length) {
+                codes = Arrays.copyOf(codes, Math.max(code + 1, 2 * codes.length));
+            }
+            int tableCode = codes[code] - 1;
+            if (tableCode < 0) {
+                tableCode = target.encode(dictionary.get(code));
+                codes[code] = tableCode + 1;
+            }
+            return tableCode;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package ua.procamp.data;
+
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static ua.procamp.data.AccountSnapshotFormat.*;
+
+/**
+ * {@link AccountSnapshotWriter} writes accounts one by one into a compact binary snapshot, that can be read by
+ * {@link AccountSnapshotReader}. The format is described in {@link AccountSnapshotFormat}. Names and email domains are
+ * written once and then referenced by dictionary codes, so the writer keeps only the dictionary in memory. A snapshot
+ * is complete only after the writer is closed.
+ */
+public final class AccountSnapshotWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private int position;
+    private long previousId;
+    private boolean closed;
+
+    /**
+     * Creates a writer that writes a snapshot into a new file, replacing existing one.
+     *
+     * @param path a file path
+     * @return a new writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static AccountSnapshotWriter to(Path path) throws IOException {
+        return to(Files.newOutputStream(path));
+    }
+
+    /**
+     * Creates a writer that writes a snapshot into provided stream. The stream is closed when the writer is closed.
+     *
+     * @param out an output stream
+     * @return a new writer
+     * @throws IOException if the header cannot be written
+     */
+    public static AccountSnapshotWriter to(OutputStream out) throws IOException {
+        return new AccountSnapshotWriter(out);
+    }
+
+    private AccountSnapshotWriter(OutputStream out) throws IOException {
+        this.out = out;
+        System.arraycopy(MAGIC, 0, buffer, 0, MAGIC.length);
+        buffer[MAGIC.length] = VERSION;
+        position = MAGIC.length + 1;
+    }
+
+    /**
+     * Writes all accounts.
+     *
+     * @param accounts accounts to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeAll(Iterable<Account> accounts) throws IOException {
+        for (Account account : accounts) {
+            write(account);
+        }
+    }
+
+    /**
+     * Writes an account.
+     *
+     * @param account an account to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Account account) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        String email = account.getEmail();
+        int at = email == null ? -1 : email.indexOf('@');
+        BigDecimal balance = account.getBalance();
+        BigInteger unscaledBalance = balance == null ? null : balance.unscaledValue();
+        int flags = (account.getId() != null ? ID : 0)
+                | (account.getFirstName() != null ? FIRST_NAME : 0)
+                | (account.getLastName() != null ? LAST_NAME : 0)
+                | (email != null ? EMAIL : 0)
+                | (at >= 0 ? EMAIL_DOMAIN : 0)
+                | (account.getBirthday() != null ? BIRTHDAY : 0)
+                | (account.getSex() != null ? SEX : 0)
+                | (account.getSex() == Sex.MALE ? MALE : 0)
+                | (account.getCreationDate() != null ? CREATION_DATE : 0)
+                | (balance != null ? BALANCE : 0)
+                | (unscaledBalance != null && unscaledBalance.bitLength() >= Long.SIZE ? BIG_BALANCE : 0);
+
+        writeByte(ACCOUNT);
+        writeVarint(flags);
+        if ((flags & ID) != 0) {
+            writeVarint(zigzag(account.getId() - previousId));
+            previousId = account.getId();
+        }
+        if ((flags & FIRST_NAME) != 0) {
+            writeDictionaryString(account.getFirstName());
+        }
+        if ((flags & LAST_NAME) != 0) {
+            writeDictionaryString(account.getLastName());
+        }
+        if ((flags & EMAIL_DOMAIN) != 0) {
+            writeRawString(email.substring(0, at));
+            writeDictionaryString(email.substring(at + 1));
+        } else if ((flags & EMAIL) != 0) {
+            writeRawString(email);
+        }
+        if ((flags & BIRTHDAY) != 0) {
+            writeVarint(zigzag(account.getBirthday().toEpochDay()));
+        }
+        if ((flags & CREATION_DATE) != 0) {
+            writeVarint(zigzag(account.getCreationDate().toEpochDay()));
+        }
+        if ((flags & BALANCE) != 0) {
+            writeVarint(zigzag(balance.scale()));
+            if ((flags & BIG_BALANCE) != 0) {
+                writeBytes(unscaledBalance.toByteArray());
+            } else {
+                writeVarint(zigzag(unscaledBalance.longValue()));
+            }
+        }
+    }
+
+    /**
+     * Writes the end of the snapshot, flushes and closes the underlying stream.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (OutputStream ignored = out) {
+            writeByte(END);
+            flushBuffer();
+            out.flush();
+        }
+    }
+
+    private void writeDictionaryString(String value) throws IOException {
+        Integer code = dictionary.get(value);
+        if (code != null) {
+            writeVarint(code + 1L);
+        } else {
+            dictionary.put(value, dictionary.size());
+            writeVarint(0);
+            writeRawString(value);
+        }
+    }
+
+    private void writeRawString(String value) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        writeVarint(bytes.length);
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+        }
+        if (bytes.length > buffer.length) {
+            out.write(bytes);
+        } else {
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+    }
+
+    private void writeVarint(long value) throws IOException {
+        if (buffer.length - position < 10) {
+            flushBuffer();
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeByte(byte value) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = value;
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,365 @@
+package ua.procamp.data;
+
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@link AccountTable} is an immutable columnar storage of {@link Account} data. Each field is stored in a separate
+ * primitive column: ids as {@code long[]}, birthday and creation dates as epoch days in {@code int[]}, sex as a
+ * {@link BitSet} of male rows, balances as a number of cents in {@code long[]}, names and email domains as codes of
+ * {@link StringDictionary}, and emails, which are unique, as a plain {@code String[]}. Therefore a row costs about 41
+ * bytes of columns plus its email string, instead of an {@link Account} object graph, and columns can be scanned
+ * without materializing accounts. {@code AccountFootprintBenchmark} compares both.
+ * <p>
+ * {@link AccountTable#rowOfEmail(String)} finds a row in constant time by an open-addressing hash index of row numbers,
+ * which is built on the first lookup and costs 8 to 16 bytes per row.
+ * <p>
+ * A balance is stored as cents together with its original scale, so {@link AccountTable#balance(int)} returns a
+ * {@link BigDecimal} equal to the original one. Balances that have more than two fraction digits are rejected with
+ * {@link ArithmeticException}, and accounts with {@code null} fields are rejected with {@link NullPointerException}.
+ */
+public final class AccountTable {
+    static final int BALANCE_SCALE = 2;
+
+    private final StringDictionary firstNameDictionary = new StringDictionary();
+    private final StringDictionary lastNameDictionary = new StringDictionary();
+    private final StringDictionary emailDomainDictionary = new StringDictionary();
+    private final BitSet males = new BitSet();
+    private long[] ids;
+    private int[] firstNames;
+    private int[] lastNames;
+    private String[] emails;
+    private int[] emailDomains;
+    private int[] birthdays;
+    private int[] creationDates;
+    private long[] balances;
+    private byte[] balanceScales;
+    private int size;
+    private volatile int[] emailIndex;
+
+    /**
+     * Creates a new table that contains all provided accounts in the iteration order.
+     *
+     * @param accounts accounts to store
+     * @return a new table
+     */
+    public static AccountTable from(Iterable<Account> accounts) {
+        int capacity = accounts instanceof Collection ? ((Collection<Account>) accounts).size() : 16;
+        AccountTable table = new AccountTable(capacity);
+        for (Account account : accounts) {
+            table.append(account);
+        }
+        table.trim();
+        return table;
+    }
+
+    AccountTable(int capacity) {
+        capacity = Math.max(capacity, 1);
+        ids = new long[capacity];
+        firstNames = new int[capacity];
+        lastNames = new int[capacity];
+        emails = new String[capacity];
+        emailDomains = new int[capacity];
+        birthdays = new int[capacity];
+        creationDates = new int[capacity];
+        balances = new long[capacity];
+        balanceScales = new byte[capacity];
+    }
+
+    private void append(Account account) {
+        String email = Objects.requireNonNull(account.getEmail(), "Account email is null");
+        LocalDate birthday = Objects.requireNonNull(account.getBirthday(), "Account birthday is null");
+        Sex sex = Objects.requireNonNull(account.getSex(), "Account sex is null");
+        LocalDate creationDate = Objects.requireNonNull(account.getCreationDate(), "Account creation date is null");
+        BigDecimal balance = Objects.requireNonNull(account.getBalance(), "Account balance is null");
+        if (balance.unscaledValue().bitLength() >= Long.SIZE) {
+            throw new ArithmeticException(String.format("Balance %s cannot be stored as cents", balance));
+        }
+        appendRow(Objects.requireNonNull(account.getId(), "Account id is null"),
+                Objects.requireNonNull(account.getFirstName(), "Account first name is null"),
+                Objects.requireNonNull(account.getLastName(), "Account last name is null"),
+                email, email.substring(email.indexOf('@') + 1), Math.toIntExact(birthday.toEpochDay()),
+                sex == Sex.MALE, Math.toIntExact(creationDate.toEpochDay()),
+                balance.unscaledValue().longValue(), balance.scale());
+    }
+
+    /**
+     * Appends a row from already decoded fields, so readers of other formats can fill a table without creating
+     * {@link Account} objects.
+     */
+    void appendRow(long id, String firstName, String lastName, String email, String emailDomain, int birthday,
+                   boolean male, int creationDate, long unscaledBalance, int balanceScale) {
+        appendEncodedRow(id, firstNameDictionary.encode(firstName), lastNameDictionary.encode(lastName), email,
+                emailDomainDictionary.encode(emailDomain), birthday, male, creationDate, unscaledBalance, balanceScale);
+    }
+
+    /**
+     * Appends a row, whose names and email domain are already encoded with the dictionaries of this table.
+     */
+    void appendEncodedRow(long id, int firstName, int lastName, String email, int emailDomain, int birthday,
+                          boolean male, int creationDate, long unscaledBalance, int balanceScale) {
+        if (balanceScale > BALANCE_SCALE || balanceScale < Byte.MIN_VALUE) {
+            throw new ArithmeticException(String.format("Balance %s cannot be stored as cents",
+                    BigDecimal.valueOf(unscaledBalance, balanceScale)));
+        }
+        long cents = unscaledBalance;
+        for (int i = balanceScale; i < BALANCE_SCALE; i++) {
+            cents = Math.multiplyExact(cents, 10);
+        }
+        if (size == ids.length) {
+            resize(size * 2);
+        }
+        ids[size] = id;
+        firstNames[size] = firstName;
+        lastNames[size] = lastName;
+        emails[size] = email;
+        emailDomains[size] = emailDomain;
+        birthdays[size] = birthday;
+        creationDates[size] = creationDate;
+        if (male) {
+            males.set(size);
+        }
+        balances[size] = cents;
+        balanceScales[size] = (byte) balanceScale;
+        size++;
+    }
+
+    void trim() {
+        if (size < ids.length) {
+            resize(size);
+        }
+    }
+
+    private void resize(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        emailDomains = Arrays.copyOf(emailDomains, capacity);
+        birthdays = Arrays.copyOf(birthdays, capacity);
+        creationDates = Arrays.copyOf(creationDates, capacity);
+        balances = Arrays.copyOf(balances, capacity);
+        balanceScales = Arrays.copyOf(balanceScales, capacity);
+    }
+
+    /**
+     * Returns a number of rows in the table.
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Materializes a row as a new {@link Account} object. In case provided row in out of the table bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param row a row index
+     * @return a new account that is equal to the stored one
+     */
+    public Account account(int row) {
+        return new Account(id(row), firstName(row), lastName(row), email(row), birthday(row), sex(row),
+                creationDate(row), balance(row));
+    }
+
+    public long id(int row) {
+        return ids[Objects.checkIndex(row, size)];
+    }
+
+    public int firstNameCode(int row) {
+        return firstNames[Objects.checkIndex(row, size)];
+    }
+
+    public String firstName(int row) {
+        return firstNameDictionary.get(firstNameCode(row));
+    }
+
+    public int lastNameCode(int row) {
+        return lastNames[Objects.checkIndex(row, size)];
+    }
+
+    public String lastName(int row) {
+        return lastNameDictionary.get(lastNameCode(row));
+    }
+
+    public String email(int row) {
+        return emails[Objects.checkIndex(row, size)];
+    }
+
+    /**
+     * Returns the first row that has provided email, or {@code -1} if there is no such row.
+     *
+     * @param email an email to look up
+     * @return a row index or {@code -1}
+     */
+    public int rowOfEmail(String email) {
+        int[] index = emailIndex;
+        if (index == null) {
+            index = buildEmailIndex();
+            emailIndex = index;
+        }
+        int mask = index.length - 1;
+        for (int slot = mix(email.hashCode()) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int row = index[slot] - 1;
+            if (emails[row].equals(email)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    public int emailDomainCode(int row) {
+        return emailDomains[Objects.checkIndex(row, size)];
+    }
+
+    public String emailDomain(int row) {
+        return emailDomainDictionary.get(emailDomainCode(row));
+    }
+
+    public int birthdayEpochDay(int row) {
+        return birthdays[Objects.checkIndex(row, size)];
+    }
+
+    public LocalDate birthday(int row) {
+        return LocalDate.ofEpochDay(birthdayEpochDay(row));
+    }
+
+    public Month birthdayMonth(int row) {
+        return Month.of(monthOfEpochDay(birthdayEpochDay(row)));
+    }
+
+    public int creationEpochDay(int row) {
+        return creationDates[Objects.checkIndex(row, size)];
+    }
+
+    public LocalDate creationDate(int row) {
+        return LocalDate.ofEpochDay(creationEpochDay(row));
+    }
+
+    public Month creationMonth(int row) {
+        return Month.of(monthOfEpochDay(creationEpochDay(row)));
+    }
+
+    public int creationYear(int row) {
+        return yearOfEpochDay(creationEpochDay(row));
+    }
+
+    public boolean isMale(int row) {
+        return males.get(Objects.checkIndex(row, size));
+    }
+
+    public Sex sex(int row) {
+        return isMale(row) ? Sex.MALE : Sex.FEMALE;
+    }
+
+    /**
+     * Returns a balance as a number of cents.
+     *
+     * @param row a row index
+     * @return balance multiplied by 100
+     */
+    public long balanceCents(int row) {
+        return balances[Objects.checkIndex(row, size)];
+    }
+
+    /**
+     * Returns a scale of the original balance, which is never greater than two.
+     *
+     * @param row a row index
+     * @return a scale of the original balance
+     */
+    public int balanceScale(int row) {
+        return balanceScales[Objects.checkIndex(row, size)];
+    }
+
+    public BigDecimal balance(int row) {
+        return toBalance(balanceCents(row), balanceScale(row));
+    }
+
+    public StringDictionary firstNameDictionary() {
+        return firstNameDictionary;
+    }
+
+    public StringDictionary lastNameDictionary() {
+        return lastNameDictionary;
+    }
+
+    public StringDictionary emailDomainDictionary() {
+        return emailDomainDictionary;
+    }
+
+    /**
+     * Builds a linear probing table of {@code row + 1}, with zero for empty slots. The table is at most half full, and
+     * only the first of rows with equal emails is stored.
+     */
+    private int[] buildEmailIndex() {
+        int[] index = new int[Integer.highestOneBit(Math.max(1, 2 * size - 1)) << 1];
+        int mask = index.length - 1;
+        for (int row = 0; row < size; row++) {
+            String email = emails[row];
+            int slot = mix(email.hashCode()) & mask;
+            while (index[slot] != 0 && !emails[index[slot] - 1].equals(email)) {
+                slot = (slot + 1) & mask;
+            }
+            if (index[slot] == 0) {
+                index[slot] = row + 1;
+            }
+        }
+        return index;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Converts a number of cents into a {@link BigDecimal} with provided scale.
+     *
+     * @param cents a number of cents
+     * @param scale a scale of the result, not greater than two
+     * @return a balance
+     */
+    public static BigDecimal toBalance(long cents, int scale) {
+        return BigDecimal.valueOf(cents, BALANCE_SCALE).setScale(scale);
+    }
+
+    /*
+     * Civil calendar conversions from "chrono-Compatible Low-Level Date Algorithms" by Howard Hinnant. They do the same
+     * as LocalDate.ofEpochDay(day).getMonthValue() and getYear(), without creating LocalDate instances.
+     */
+
+    private static int monthOfEpochDay(int epochDay) {
+        int dayOfYear = dayOfEra(epochDay) - startOfYearOfEra(yearOfEra(dayOfEra(epochDay)));
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        return shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    }
+
+    private static int yearOfEpochDay(int epochDay) {
+        long shiftedDay = epochDay + 719468L;
+        long era = Math.floorDiv(shiftedDay, 146097L);
+        int yearOfEra = yearOfEra(dayOfEra(epochDay));
+        int month = monthOfEpochDay(epochDay);
+        return (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+    }
+
+    private static int dayOfEra(int epochDay) {
+        return (int) Math.floorMod(epochDay + 719468L, 146097L);
+    }
+
+    private static int yearOfEra(int dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static int startOfYearOfEra(int yearOfEra) {
+        return 365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100;
+    }
+}
@@ -9,9 +9,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Random;
-
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.IntStream.range;
+import java.util.stream.Stream;
 
 public interface Accounts {
     static Account getAccount(){
@@ -35,10 +33,29 @@ public interface Accounts {
         return fakeAccount;
     }
 
+    /**
+     * Generates a list of accounts with a random seed by {@link AccountGenerator}. Unlike {@link #getAccount()}, the
+     * accounts have ids from 1 to {@code size}, unique emails, and creation dates between 2010 and 2020 instead of
+     * today. Every call creates a new generator, which takes about a second to build its pool of persons, so create an
+     * {@link AccountGenerator} once to generate accounts repeatedly.
+     *
+     * @param size a number of accounts
+     * @return a list of accounts
+     */
     static List<Account> getAccountList(int size){
-        return range(0, size)
-                .mapToObj(i -> getAccount())
-                .collect(toList());
+        return AccountGenerator.create(new Random().nextLong()).list(size);
+    }
+
+    /**
+     * Returns a lazy stream of accounts generated by {@link AccountGenerator}, with the same semantics as
+     * {@link #getAccountList(int)}. The same seed always gives the same accounts.
+     *
+     * @param size a number of accounts
+     * @param seed a seed of the generator
+     * @return a stream of accounts
+     */
+    static Stream<Account> getAccountStream(long size, long seed){
+        return AccountGenerator.create(seed).stream(size);
     }
 }
 
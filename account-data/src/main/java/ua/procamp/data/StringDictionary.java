@@ -0,0 +1,61 @@
+package ua.procamp.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StringDictionary} assigns a dense int code to every distinct string. Codes start from zero and are assigned
+ * in the order strings were added for the first time, so a column of strings can be stored as an int array.
+ */
+public final class StringDictionary {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Returns a code of the string, adding it to the dictionary if it's not there yet.
+     *
+     * @param value a string to encode
+     * @return a code of the string
+     */
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Returns a code of the string, or {@code -1} if there is no such string in the dictionary.
+     *
+     * @param value a string to look up
+     * @return a code of the string or {@code -1}
+     */
+    public int code(String value) {
+        return codes.getOrDefault(value, -1);
+    }
+
+    /**
+     * Returns a string by its code. In case provided code is out of the dictionary bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param code a string code
+     * @return a string
+     */
+    public String get(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Returns a number of distinct strings in the dictionary.
+     *
+     * @return number of strings
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,106 @@
+package ua.procamp.data;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import ua.procamp.model.Account;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class AccountGeneratorTest {
+    private static final int POOL_SIZE = 64;
+
+    @Test
+    public void testSameSeedGivesSameAccounts() {
+        List<Account> accounts = AccountGenerator.create(42, POOL_SIZE).list(1_000);
+        List<Account> sameAccounts = AccountGenerator.create(42, POOL_SIZE).list(1_000);
+
+        assertEquals(toStrings(accounts), toStrings(sameAccounts));
+    }
+
+    @Test
+    public void testDifferentSeedsGiveDifferentAccounts() {
+        List<Account> accounts = AccountGenerator.create(42, POOL_SIZE).list(100);
+        List<Account> otherAccounts = AccountGenerator.create(43, POOL_SIZE).list(100);
+
+        assertNotEquals(toStrings(accounts), toStrings(otherAccounts));
+    }
+
+    @Test
+    public void testParallelStreamGivesSameAccountsAsSequential() {
+        AccountGenerator generator = AccountGenerator.create(42, POOL_SIZE);
+
+        List<Account> sequential = generator.stream(10_000).collect(toList());
+        List<Account> parallel = generator.stream(10_000).parallel().collect(toList());
+
+        assertEquals(toStrings(sequential), toStrings(parallel));
+        assertEquals(toStrings(sequential), toStrings(generator.list(10_000)));
+    }
+
+    @Test
+    public void testAccountByIndexEqualsStreamedAccount() {
+        AccountGenerator generator = AccountGenerator.create(42, POOL_SIZE);
+        List<Account> accounts = generator.list(100);
+
+        for (int i = accounts.size() - 1; i >= 0; i--) {
+            assertEquals(accounts.get(i).toString(), generator.account(i).toString());
+        }
+    }
+
+    @Test
+    public void testStreamYieldsExactlyRequestedNumberOfAccounts() {
+        AccountGenerator generator = AccountGenerator.create(42, POOL_SIZE);
+
+        assertEquals(0, generator.stream(0).count());
+        assertEquals(1, generator.stream(1).count());
+        assertEquals(12_345, generator.stream(12_345).count());
+        assertEquals(12_345, generator.stream(12_345).parallel().count());
+    }
+
+    @Test
+    public void testIdsAreIndexesPlusOne() {
+        List<Account> accounts = AccountGenerator.create(42, POOL_SIZE).list(1_000);
+
+        for (int i = 0; i < accounts.size(); i++) {
+            assertEquals(Long.valueOf(i + 1), accounts.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testEmailsAreUnique() {
+        List<Account> accounts = AccountGenerator.create(42, POOL_SIZE).list(100_000);
+
+        Set<String> emails = new HashSet<>();
+        for (Account account : accounts) {
+            assertTrue("Duplicate email " + account.getEmail(), emails.add(account.getEmail()));
+        }
+    }
+
+    @Test
+    public void testAccountsHaveAllFields() {
+        for (Account account : AccountGenerator.create(42, POOL_SIZE).list(1_000)) {
+            assertNotNull(account.getFirstName());
+            assertNotNull(account.getLastName());
+            assertNotNull(account.getEmail());
+            assertNotNull(account.getBirthday());
+            assertNotNull(account.getSex());
+            assertNotNull(account.getCreationDate());
+            assertNotNull(account.getBalance());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositivePoolSize() {
+        AccountGenerator.create(42, 0);
+    }
+
+    private static List<String> toStrings(List<Account> accounts) {
+        return accounts.stream().map(Account::toString).collect(toList());
+    }
+}
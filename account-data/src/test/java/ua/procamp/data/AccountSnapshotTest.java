@@ -0,0 +1,340 @@
+package ua.procamp.data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import ua.procamp.exception.SnapshotFormatException;
+import ua.procamp.model.Account;
+import ua.procamp.model.Sex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import static ua.procamp.data.AccountSnapshotFormat.*;
+
+@RunWith(JUnit4.class)
+public class AccountSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        List<Account> accounts = generateAccounts(1_000);
+
+        assertAccountsEqual(accounts, read(write(accounts)).readAll());
+    }
+
+    @Test
+    public void testRoundTripOfEdgeCases() throws IOException {
+        List<Account> accounts = edgeCaseAccounts();
+
+        assertAccountsEqual(accounts, read(write(accounts)).readAll());
+    }
+
+    @Test
+    public void testRoundTripOfEmptySnapshot() throws IOException {
+        AccountSnapshotReader reader = read(write(List.of()));
+
+        assertFalse(reader.hasNext());
+        assertEquals(0, reader.readTable().size());
+    }
+
+    @Test
+    public void testStreamReadsAllAccounts() throws IOException {
+        List<Account> accounts = generateAccounts(100);
+
+        assertAccountsEqual(accounts, read(write(accounts)).stream().collect(toList()));
+    }
+
+    @Test
+    public void testReadTable() throws IOException {
+        List<Account> accounts = generateAccounts(1_000);
+        accounts.get(0).setBalance(new BigDecimal("-12.5"));
+        accounts.get(1).setBalance(new BigDecimal("0.07"));
+
+        assertTablesEqual(AccountTable.from(accounts), read(write(accounts)).readTable());
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        List<Account> accounts = generateAccounts(1_000);
+        accounts.addAll(edgeCaseAccounts());
+        Path path = folder.newFile("accounts.snapshot").toPath();
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.to(path)) {
+            writer.writeAll(accounts);
+        }
+
+        assertAccountsEqual(accounts, AccountSnapshotReader.open(path).readAll());
+    }
+
+    @Test
+    public void testMappedFileReadTable() throws IOException {
+        List<Account> accounts = generateAccounts(1_000);
+        Path path = folder.newFile("accounts.snapshot").toPath();
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.to(path)) {
+            writer.writeAll(accounts);
+        }
+
+        assertTablesEqual(AccountTable.from(accounts), AccountSnapshotReader.open(path).readTable());
+    }
+
+    @Test
+    public void testDirectBufferLargerThanReadWindow() throws IOException {
+        List<Account> accounts = generateAccounts(10_000);
+        accounts.addAll(edgeCaseAccounts());
+
+        assertAccountsEqual(accounts, AccountSnapshotReader.from(direct(write(accounts))).readAll());
+    }
+
+    @Test
+    public void testDirectBufferLargerThanReadWindowReadTable() throws IOException {
+        List<Account> accounts = generateAccounts(10_000);
+
+        assertTablesEqual(AccountTable.from(accounts), AccountSnapshotReader.from(direct(write(accounts))).readTable());
+    }
+
+    @Test
+    public void testPositionsAreCountedFromBufferPosition() {
+        byte[] snapshot = record(FIRST_NAME, varint(5));
+        byte[] shifted = new byte[snapshot.length + 3];
+        System.arraycopy(snapshot, 0, shifted, 3, snapshot.length);
+        ByteBuffer heap = ByteBuffer.wrap(shifted);
+        heap.position(3);
+        ByteBuffer direct = direct(shifted);
+        direct.position(3);
+
+        for (ByteBuffer buffer : List.of(heap, direct)) {
+            try {
+                AccountSnapshotReader.from(buffer).readAll();
+                fail("Should throw exception");
+            } catch (SnapshotFormatException e) {
+                assertEquals("Unknown dictionary code 4 at position 8", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testBadMagic() {
+        assertMalformed(new byte[]{'A', 'C', 'C', 'X', VERSION, END}, "Not an account snapshot");
+    }
+
+    @Test
+    public void testUnsupportedVersion() {
+        assertMalformed(new byte[]{'A', 'C', 'C', 'S', VERSION + 1, END}, "Unsupported snapshot version 2");
+    }
+
+    @Test
+    public void testUnknownRecordTag() {
+        assertMalformed(new byte[]{'A', 'C', 'C', 'S', VERSION, 7}, "Unknown record tag 7 at position 5");
+    }
+
+    @Test
+    public void testEveryTruncationIsReported() throws IOException {
+        List<Account> accounts = generateAccounts(20);
+        accounts.addAll(edgeCaseAccounts());
+        byte[] snapshot = write(accounts);
+
+        for (int length = 0; length < snapshot.length; length++) {
+            byte[] truncated = Arrays.copyOf(snapshot, length);
+            for (ByteBuffer buffer : List.of(ByteBuffer.wrap(truncated), direct(truncated))) {
+                try {
+                    AccountSnapshotReader.from(buffer).readAll();
+                    fail(String.format("Snapshot truncated to %d bytes should be rejected", length));
+                } catch (SnapshotFormatException e) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCorruptedSnapshotIsReportedAsFormatError() throws IOException {
+        byte[] snapshot = write(edgeCaseAccounts());
+        Random random = new Random(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            byte[] corrupted = snapshot.clone();
+            int position = MAGIC.length + 1 + random.nextInt(corrupted.length - MAGIC.length - 1);
+            corrupted[position] = (byte) random.nextInt(256);
+            try {
+                read(corrupted).readAll();
+            } catch (SnapshotFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeLength() {
+        assertMalformed(record(EMAIL, varint(-1)), "Negative length -1 at position 17");
+    }
+
+    @Test
+    public void testTooLargeLength() {
+        assertMalformed(record(EMAIL, varint(Long.MAX_VALUE)), "Snapshot is truncated");
+    }
+
+    @Test
+    public void testUnknownDictionaryCode() {
+        assertMalformed(record(FIRST_NAME, varint(5)), "Unknown dictionary code 4 at position 8");
+    }
+
+    @Test
+    public void testNegativeDictionaryCode() {
+        assertMalformed(record(FIRST_NAME, varint(-1)), "Unknown dictionary code -2 at position 17");
+    }
+
+    @Test
+    public void testEpochDayOutOfRange() {
+        assertMalformed(record(BIRTHDAY, varint(zigzag(Long.MAX_VALUE))),
+                "Epoch day 9223372036854775807 is out of range at position 17");
+    }
+
+    @Test
+    public void testEpochDayOutOfTableRange() throws IOException {
+        Account account = generateAccounts(1).get(0);
+        account.setBirthday(LocalDate.ofEpochDay(Integer.MAX_VALUE + 1L));
+        byte[] snapshot = write(List.of(account));
+
+        assertEquals(account.getBirthday(), read(snapshot).next().getBirthday());
+        try {
+            read(snapshot).readTable();
+            fail("Should throw exception");
+        } catch (SnapshotFormatException e) {
+            assertEquals("Epoch day 2147483648 of account id=1 cannot be stored in a table", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testBalanceScaleOutOfRange() {
+        assertMalformed(record(BALANCE, varint(zigzag(1L << 40)), varint(0)),
+                "Balance scale 1099511627776 is out of range at position 14");
+    }
+
+    @Test
+    public void testEmptyBigBalance() {
+        assertMalformed(record(BALANCE | BIG_BALANCE, varint(0), varint(0)), "Empty balance at position 10");
+    }
+
+    @Test
+    public void testInvalidFieldFlags() {
+        assertMalformed(record(BIG_BALANCE << 1), "Invalid field flags 2048 at position 8");
+        assertMalformed(record(BIG_BALANCE), "Invalid field flags 1024 at position 8");
+    }
+
+    private static List<Account> generateAccounts(int size) {
+        String[] firstNames = {"Justin", "Olivia", "Nolan", "Lucas", "Amelia", "\u00c9mile"};
+        String[] lastNames = {"Butler", "Cardenas", "Donovan", "Lynn", "Smith"};
+        String[] domains = {"gmail.com", "mail.com", "yahoo.com"};
+        String[] balances = {"0", "17.5", "12.25", "1E+3", "200000"};
+        List<Account> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            accounts.add(new Account(i + 1L, firstNames[i % firstNames.length], lastNames[i % lastNames.length],
+                    "user" + i + "@" + domains[i % domains.length], LocalDate.ofEpochDay(i % 20_000 - 10_000),
+                    i % 3 == 0 ? Sex.FEMALE : Sex.MALE, LocalDate.ofEpochDay(14_000 + i % 3_000),
+                    new BigDecimal(balances[i % balances.length]).add(BigDecimal.valueOf(i))));
+        }
+        return accounts;
+    }
+
+    private static List<Account> edgeCaseAccounts() {
+        List<Account> accounts = new ArrayList<>();
+        accounts.add(new Account(Long.MAX_VALUE, "\u00c9mile", "Zo\u00eb", "\u00e9mile@mail.com", LocalDate.of(1900, 1, 1),
+                Sex.MALE, LocalDate.of(2020, 2, 29), new BigDecimal("123.456")));
+        accounts.add(new Account(Long.MIN_VALUE, null, null, null, null, null, null, null));
+        accounts.add(new Account(-1L, "Justin", "Butler", "no-domain", LocalDate.of(-5000, 6, 1), Sex.FEMALE,
+                LocalDate.of(1969, 12, 31), new BigDecimal("-1E+5")));
+        accounts.add(new Account(null, "Justin", null, "@", null, Sex.MALE, null, BigDecimal.ZERO));
+        accounts.add(new Account(0L, null, "Butler", "justin@mail.com", null, null, null,
+                new BigDecimal("-0.000000001")));
+        accounts.add(new Account(7L, "Olivia", "Butler", "olivia@mail.com", null, null, null,
+                new BigDecimal(BigInteger.ONE.shiftLeft(100).negate(), -3)));
+        accounts.add(new Account(8L, "Olivia", "Zo\u00eb", "olivia.zoe@gmail.com", null, null, null,
+                new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE), 2)));
+        accounts.add(new Account(9L, "Olivia", "Zo\u00eb", "olivia.zoe2@gmail.com", null, null, null,
+                new BigDecimal(BigInteger.valueOf(Long.MIN_VALUE), 2)));
+        return accounts;
+    }
+
+    private static byte[] write(List<Account> accounts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.to(out)) {
+            writer.writeAll(accounts);
+        }
+        return out.toByteArray();
+    }
+
+    private static AccountSnapshotReader read(byte[] snapshot) {
+        return AccountSnapshotReader.from(ByteBuffer.wrap(snapshot));
+    }
+
+    private static ByteBuffer direct(byte[] snapshot) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(snapshot.length);
+        buffer.put(snapshot);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Builds a snapshot with a single account record, that has provided field flags and encoded fields.
+     */
+    private static byte[] record(int flags, byte[]... fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+        out.write(ACCOUNT);
+        out.writeBytes(varint(flags));
+        for (byte[] field : fields) {
+            out.writeBytes(field);
+        }
+        out.write(END);
+        return out.toByteArray();
+    }
+
+    private static byte[] varint(long value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+        return out.toByteArray();
+    }
+
+    private static void assertMalformed(byte[] snapshot, String message) {
+        try {
+            read(snapshot).readAll();
+            fail("Should throw exception");
+        } catch (SnapshotFormatException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private static void assertAccountsEqual(List<Account> expected, List<Account> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+
+    private static void assertTablesEqual(AccountTable expected, AccountTable actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.account(row).toString(), actual.account(row).toString());
+        }
+    }
+}
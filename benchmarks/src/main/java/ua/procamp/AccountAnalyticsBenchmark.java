@@ -0,0 +1,158 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+import ua.procamp.data.AccountGenerator;
+import ua.procamp.data.AccountTable;
+import ua.procamp.model.Account;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.flatMapping;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Benchmarks of {@link AccountAnalytics} queries over {@code size} generated accounts, compared to the same queries of
+ * {@link AccountTableAnalytics} over the columnar {@link AccountTable}, to the parallel mode, and to a fused
+ * {@link AccountReport}. Accounts and the table are kept in separate states, so a benchmark creates only the one it
+ * queries, and ten million {@link Account} objects fit into the heap. The table is filled from a stream of generated
+ * accounts, without keeping them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class AccountAnalyticsBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @State(Scope.Benchmark)
+    public static class ListState {
+        private List<Account> accounts;
+        private ForkJoinPool pool;
+        private AccountAnalytics analytics;
+        private AccountAnalytics parallelAnalytics;
+
+        @Setup
+        public void setUp(AccountAnalyticsBenchmark benchmark) {
+            accounts = AccountGenerator.create(42).list(benchmark.size);
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            analytics = AccountAnalytics.of(accounts);
+            parallelAnalytics = AccountAnalytics.of(accounts, pool);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TableState {
+        private AccountTableAnalytics analytics;
+
+        @Setup
+        public void setUp(AccountAnalyticsBenchmark benchmark) {
+            analytics = AccountTableAnalytics.of(AccountTable.from(
+                    AccountGenerator.create(42).stream(benchmark.size)::iterator));
+        }
+    }
+
+    @Benchmark
+    public Optional<Account> findRichestPerson(ListState state) {
+        return state.analytics.findRichestPerson();
+    }
+
+    @Benchmark
+    public Optional<Account> tableFindRichestPerson(TableState state) {
+        return state.analytics.findRichestPerson();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalBalance(ListState state) {
+        return state.analytics.calculateTotalBalance();
+    }
+
+    @Benchmark
+    public BigDecimal parallelCalculateTotalBalance(ListState state) {
+        return state.parallelAnalytics.calculateTotalBalance();
+    }
+
+    @Benchmark
+    public BigDecimal tableCalculateTotalBalance(TableState state) {
+        return state.analytics.calculateTotalBalance();
+    }
+
+    @Benchmark
+    public Map<Month, BigDecimal> groupTotalBalanceByCreationMonth(ListState state) {
+        return state.analytics.groupTotalBalanceByCreationMonth();
+    }
+
+    @Benchmark
+    public Map<Month, BigDecimal> tableGroupTotalBalanceByCreationMonth(TableState state) {
+        return state.analytics.groupTotalBalanceByCreationMonth();
+    }
+
+    @Benchmark
+    public Map<String, List<Account>> groupAccountsByEmailDomain(ListState state) {
+        return state.analytics.groupAccountsByEmailDomain();
+    }
+
+    @Benchmark
+    public Map<Character, Long> getCharacterFrequencyInFirstNames(ListState state) {
+        return state.analytics.getCharacterFrequencyInFirstNames();
+    }
+
+    /**
+     * Baseline of {@link #getCharacterHistogramInFirstNames(ListState)}: counts letters the way the query did before
+     * {@link CharHistogram}, boxing every letter and every count. Compare {@code gc.alloc.rate.norm} of both.
+     */
+    @Benchmark
+    public Map<Character, Long> boxedCharacterFrequencyInFirstNames(ListState state) {
+        return state.accounts.stream()
+                .collect(flatMapping(a -> a.getFirstName().chars().mapToObj(c -> (char) c),
+                        groupingBy(identity(), counting())));
+    }
+
+    @Benchmark
+    public CharHistogram getCharacterHistogramInFirstNames(ListState state) {
+        return state.analytics.getCharacterHistogramInFirstNames();
+    }
+
+    @Benchmark
+    public CharHistogram tableGetCharacterHistogramInFirstNames(TableState state) {
+        return state.analytics.getCharacterHistogramInFirstNames();
+    }
+
+    @Benchmark
+    public List<Account> findTopKRichest(ListState state) {
+        return state.analytics.findTopKRichest(10);
+    }
+
+    @Benchmark
+    public long estimateDistinctEmailDomains(ListState state) {
+        return state.analytics.estimateDistinctEmailDomains();
+    }
+
+    @Benchmark
+    public Object[] separateQueries(ListState state) {
+        AccountAnalytics analytics = state.analytics;
+        return new Object[]{analytics.findRichestPerson(), analytics.calculateTotalBalance(),
+                analytics.groupTotalBalanceByCreationMonth(), analytics.getCharacterHistogramInFirstNames()};
+    }
+
+    @Benchmark
+    public AccountReport fusedReport(ListState state) {
+        return state.analytics.report(AccountMetric.RICHEST_PERSON, AccountMetric.TOTAL_BALANCE,
+                AccountMetric.TOTAL_BALANCE_BY_CREATION_MONTH, AccountMetric.CHARACTER_HISTOGRAM_IN_FIRST_NAMES);
+    }
+}
@@ -0,0 +1,53 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+import ua.procamp.data.AccountGenerator;
+import ua.procamp.data.AccountSnapshotReader;
+import ua.procamp.data.AccountSnapshotWriter;
+import ua.procamp.data.AccountTable;
+import ua.procamp.model.Account;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares memory per account of a list of {@link Account} objects and of an {@link AccountTable}. Both are loaded
+ * from the same in-memory snapshot of {@code size} generated accounts, so both create the same strings. Run with
+ * {@code -prof gc}: {@code gc.alloc.rate.norm} divided by {@code size} is the number of bytes allocated per account,
+ * which is an upper bound of its footprint, because it also counts short-lived decoding buffers. Sizes stop at one
+ * million, because ten million {@link Account} objects don't fit into a benchmark heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class AccountFootprintBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ByteBuffer snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.to(out)) {
+            writer.writeAll(AccountGenerator.create(42).stream(size)::iterator);
+        }
+        snapshot = ByteBuffer.wrap(out.toByteArray());
+    }
+
+    @Benchmark
+    public List<Account> accounts() {
+        return AccountSnapshotReader.from(snapshot.duplicate()).readAll();
+    }
+
+    @Benchmark
+    public AccountTable table() {
+        return AccountSnapshotReader.from(snapshot.duplicate()).readTable();
+    }
+}
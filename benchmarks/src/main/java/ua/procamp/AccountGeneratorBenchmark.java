@@ -0,0 +1,41 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ua.procamp.data.AccountGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of generating {@code size} accounts with {@link AccountGenerator}, sequentially and in parallel. A score
+ * is the time to generate all accounts, so {@code size / score} is the generation rate. Accounts are consumed one by
+ * one, because ten million of them don't fit into a benchmark heap. The generator and its person pool are created once
+ * per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class AccountGeneratorBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private AccountGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = AccountGenerator.create(42);
+    }
+
+    @Benchmark
+    public void generateSequential(Blackhole blackhole) {
+        generator.stream(size).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void generateParallel(Blackhole blackhole) {
+        generator.stream(size).parallel().forEach(blackhole::consume);
+    }
+}
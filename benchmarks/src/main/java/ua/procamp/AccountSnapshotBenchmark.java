@@ -0,0 +1,54 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ua.procamp.data.AccountGenerator;
+import ua.procamp.data.AccountSnapshotReader;
+import ua.procamp.data.AccountSnapshotWriter;
+import ua.procamp.data.AccountTable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of loading a snapshot of {@code size} generated accounts from a memory-mapped file, either into an
+ * {@link AccountTable} or as a sequence of accounts. Accounts are consumed one by one, because ten million of them
+ * don't fit into a benchmark heap. The snapshot file is written once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-opens=java.base/java.lang=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class AccountSnapshotBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        snapshot = Files.createTempFile("accounts", ".snapshot");
+        try (AccountSnapshotWriter writer = AccountSnapshotWriter.to(snapshot)) {
+            writer.writeAll(AccountGenerator.create(42).stream(size)::iterator);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(snapshot);
+    }
+
+    @Benchmark
+    public AccountTable readTable() throws IOException {
+        return AccountSnapshotReader.open(snapshot).readTable();
+    }
+
+    @Benchmark
+    public void readAccounts(Blackhole blackhole) throws IOException {
+        AccountSnapshotReader.open(snapshot).forEachRemaining(blackhole::consume);
+    }
+}
@@ -0,0 +1,69 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of {@link BlockingBoundedQueue} over {@link SpscArrayQueue} with different wait strategies: one thread
+ * puts elements and another one takes them. Compare the score with the CPU time of the run to see the trade-off
+ * between latency and CPU usage of every strategy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Group)
+public class BlockingQueueBenchmark {
+    private static final Integer ELEMENT = -1;
+
+    public enum Strategy {
+        PARK(ParkingWaitStrategy::new),
+        SPIN_THEN_PARK(() -> new SpinThenParkWaitStrategy(1000)),
+        YIELD(YieldingWaitStrategy::new);
+
+        private final Supplier<WaitStrategy> factory;
+
+        Strategy(Supplier<WaitStrategy> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"1024"})
+    private int capacity;
+
+    @Param
+    private Strategy strategy;
+
+    private BlockingQueue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(capacity), strategy.factory.get());
+    }
+
+    /**
+     * Drops elements left at the end of an iteration, so every iteration starts with an empty queue.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        while (queue.poll() != null) {
+        }
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(1)
+    public void put() throws InterruptedException {
+        queue.put(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(1)
+    public Integer take() throws InterruptedException {
+        return queue.take();
+    }
+}
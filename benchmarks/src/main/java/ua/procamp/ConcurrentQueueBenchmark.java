@@ -0,0 +1,56 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of thread-safe queues: {@link LockFreeLinkedQueue} against {@link LinkedQueue} wrapped in
+ * {@link SynchronizedQueue}. Each thread adds an element and polls one, so the queue stays short, and the score shows
+ * the cost of the hand-off for one thread and for four threads that share the queue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ConcurrentQueueBenchmark {
+    private static final Integer ELEMENT = -1;
+
+    public enum Implementation {
+        LOCK_FREE(LockFreeLinkedQueue::new),
+        SYNCHRONIZED(() -> new SynchronizedQueue<>(new LinkedQueue<>()));
+
+        private final Supplier<Queue<Integer>> factory;
+
+        Implementation(Supplier<Queue<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = implementation.factory.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer addAndPollUncontended() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer addAndPollContended() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+}
@@ -0,0 +1,71 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of thread-safe stacks: {@link TreiberStack} with and without elimination against {@link LinkedStack}
+ * wrapped in {@link SynchronizedStack}. Every thread pushes an element and pops one, like workers that borrow and
+ * return a buffer, on a stack that holds {@value PREFILL} elements. Compare scores for 1, 2 and 4 threads on a machine
+ * with at least as many cores to see how throughput scales with threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+    private static final Integer ELEMENT = -1;
+    private static final int PREFILL = 1000;
+
+    public enum Implementation {
+        SYNCHRONIZED(() -> new SynchronizedStack<>(new LinkedStack<>())),
+        TREIBER(TreiberStack::new),
+        TREIBER_ELIMINATION(() -> new TreiberStack<>(Runtime.getRuntime().availableProcessors()));
+
+        private final Supplier<Stack<Integer>> factory;
+
+        Implementation(Supplier<Stack<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    private Stack<Integer> stack;
+
+    @Setup
+    public void setUp() {
+        stack = implementation.factory.get();
+        for (int i = 0; i < PREFILL; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer pushAndPop1() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer pushAndPop2() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer pushAndPop4() {
+        return pushAndPop();
+    }
+
+    private Integer pushAndPop() {
+        stack.push(ELEMENT);
+        return stack.pop();
+    }
+}
@@ -0,0 +1,56 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HeapPriorityQueue} with different arities on a queue that holds {@code size} random elements: a
+ * single add and poll, and building a heap from a collection. A binary heap does fewer comparisons per level, while a
+ * 4-ary heap has half as many levels and compares adjacent children, so the difference shows on heaps that do not fit
+ * into the CPU cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class HeapPriorityQueueBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"2", "4", "8"})
+    private int arity;
+
+    private List<Integer> elements;
+    private HeapPriorityQueue<Integer> queue;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        Random values = new Random(42);
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = values.nextInt();
+        }
+        elements = Arrays.asList(array);
+        queue = HeapPriorityQueue.from(elements, arity, null);
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(random.nextInt());
+        return queue.poll();
+    }
+
+    @Benchmark
+    public HeapPriorityQueue<Integer> heapify() {
+        return HeapPriorityQueue.from(elements, arity, null);
+    }
+}
@@ -0,0 +1,79 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IntList} with a boxed {@link ArrayList} of {@link Integer} on filling and scanning {@code size}
+ * values. Run with {@code -prof gc} to see the allocation difference.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class IntListBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private IntList intList;
+    private List<Integer> boxedList;
+
+    @Setup
+    public void setUp() {
+        intList = new IntList(size);
+        boxedList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            intList.add(i);
+            boxedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public IntList fillIntList() {
+        IntList list = new IntList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> fillBoxedList() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumIntList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateIntList() {
+        long sum = 0;
+        for (PrimitiveIterator.OfInt iterator = intList.iterator(); iterator.hasNext(); ) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBoxedList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,59 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IntStack} and {@link LongStack} with a boxed {@link ArrayStack} of {@link Integer} on filling an empty
+ * stack with {@code size} values and draining it. Run with {@code -prof gc} to see the allocation difference.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class IntStackBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Benchmark
+    public long fillAndDrainIntStack() {
+        IntStack stack = new IntStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fillAndDrainLongStack() {
+        LongStack stack = new LongStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fillAndDrainBoxedStack() {
+        Stack<Integer> stack = new ArrayStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,51 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link LinkedQueue}: a single add and poll on a queue that holds {@code size} elements, and filling an
+ * empty queue with {@code size} elements and draining it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class LinkedQueueBenchmark {
+    private static final Integer ELEMENT = -1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = new LinkedQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+
+    @Benchmark
+    public long fillAndDrain() {
+        Queue<Integer> queue = new LinkedQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.add(ELEMENT);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+}
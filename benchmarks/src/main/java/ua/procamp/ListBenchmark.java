@@ -0,0 +1,132 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks of {@link List} implementations on a list of {@code size} elements. Every benchmark keeps the size of the
+ * list unchanged, so operations are measured at the same size during the whole run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ListBenchmark {
+    private static final Integer ELEMENT = -1;
+    private static final int STRIDED_READS = 64;
+
+    public enum Implementation {
+        LINKED_LIST(LinkedList::of),
+        ARRAY_LIST(ArrayList::of),
+        UNROLLED_LINKED_LIST(UnrolledLinkedList::of);
+
+        private final Function<Integer[], List<Integer>> factory;
+
+        Implementation(Function<Integer[], List<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param
+    private Implementation implementation;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        list = implementation.factory.apply(elements);
+    }
+
+    @Benchmark
+    public Integer addAndRemoveFirst() {
+        list.add(0, ELEMENT);
+        Integer first = list.get(0);
+        list.remove(0);
+        return first;
+    }
+
+    @Benchmark
+    public Integer addAndRemoveLast() {
+        list.add(ELEMENT);
+        Integer last = list.get(size);
+        list.remove(size);
+        return last;
+    }
+
+    @Benchmark
+    public Integer addAndRemoveMiddle() {
+        list.add(size / 2, ELEMENT);
+        Integer middle = list.get(size / 2);
+        list.remove(size / 2);
+        return middle;
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer setMiddle() {
+        Integer middle = list.get(size / 2);
+        list.set(size / 2, middle);
+        return middle;
+    }
+
+    /**
+     * Reads elements at evenly spaced indexes, like a loop over indexes does.
+     */
+    @Benchmark
+    public long getStrided() {
+        long sum = 0;
+        for (int i = 0; i < STRIDED_READS; i++) {
+            sum += list.get((int) ((long) i * size / STRIDED_READS));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public void replaceAll() {
+        list.replaceAll(element -> element);
+    }
+
+    @Benchmark
+    public boolean removeIfMissing() {
+        return list.removeIf(ELEMENT::equals);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(ELEMENT);
+    }
+}
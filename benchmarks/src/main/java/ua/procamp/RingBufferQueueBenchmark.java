@@ -0,0 +1,76 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmarks of array-based {@link SpscArrayQueue} and {@link MpscArrayQueue} against node-based {@link LinkedQueue}
+ * on a queue that holds {@code size} elements: a single add and poll, and a batch of {@value BATCH} elements added and
+ * drained at once. Run with {@code -prof gc} to see that ring buffers do not allocate per element.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class RingBufferQueueBenchmark {
+    private static final Integer ELEMENT = -1;
+    private static final int BATCH = 64;
+
+    public enum Implementation {
+        LINKED_QUEUE(capacity -> new LinkedQueue<>()),
+        SPSC_ARRAY_QUEUE(SpscArrayQueue::new),
+        MPSC_ARRAY_QUEUE(MpscArrayQueue::new);
+
+        private final IntFunction<Queue<Integer>> factory;
+
+        Implementation(IntFunction<Queue<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private Implementation implementation;
+
+    private Queue<Integer> queue;
+    private final Integer[] batch = new Integer[BATCH];
+
+    @Setup
+    public void setUp() {
+        queue = implementation.factory.apply(size + BATCH);
+        for (int i = 0; i < size; i++) {
+            queue.add(i);
+        }
+        Arrays.fill(batch, ELEMENT);
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+
+    @Benchmark
+    public int offerAllAndDrain(Blackhole blackhole) {
+        if (queue instanceof BoundedQueue) {
+            BoundedQueue<Integer> bounded = (BoundedQueue<Integer>) queue;
+            bounded.offerAll(batch);
+            return bounded.drain(blackhole::consume, BATCH);
+        }
+        for (Integer element : batch) {
+            queue.add(element);
+        }
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(queue.poll());
+        }
+        return BATCH;
+    }
+}
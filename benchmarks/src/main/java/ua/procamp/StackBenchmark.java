@@ -0,0 +1,90 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of {@link Stack} implementations: a single push and pop on a stack that holds {@code size} elements, and
+ * filling an empty stack with {@code size} elements and draining it, one by one and with bulk operations. Run with {@code -prof gc} to see that
+ * {@link ArrayStack} does not allocate on push.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class StackBenchmark {
+    private static final Integer ELEMENT = -1;
+    private static final int BATCH = 64;
+
+    public enum Implementation {
+        LINKED_STACK(LinkedStack::new),
+        ARRAY_STACK(ArrayStack::new);
+
+        private final Supplier<Stack<Integer>> factory;
+
+        Implementation(Supplier<Stack<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param
+    private Implementation implementation;
+
+    private Stack<Integer> stack;
+    private final List<Integer> batch = new ArrayList<>(BATCH);
+
+    @Setup
+    public void setUp() {
+        stack = implementation.factory.get();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer pushAndPop() {
+        stack.push(ELEMENT);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public long fillAndDrain() {
+        Stack<Integer> stack = implementation.factory.get();
+        for (int i = 0; i < size; i++) {
+            stack.push(ELEMENT);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int popNAndPushAll() {
+        batch.clear();
+        int popped = stack.popN(BATCH, batch::add);
+        stack.pushAll(batch);
+        return popped;
+    }
+
+    @Benchmark
+    public long fillAndDrainBulk() {
+        Stack<Integer> stack = implementation.factory.get();
+        for (int i = 0; i < size; i++) {
+            stack.push(ELEMENT);
+        }
+        long[] sum = new long[1];
+        stack.popN(size, element -> sum[0] += element);
+        return sum[0];
+    }
+}
@@ -0,0 +1,24 @@
+package ua.procamp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link SumOfSquares#calculateSumOfSquaresInRange(int, int)} over a range of {@code size} numbers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SumOfSquaresBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Benchmark
+    public int calculateSumOfSquaresInRange() {
+        return SumOfSquares.calculateSumOfSquaresInRange(1, size);
+    }
+}
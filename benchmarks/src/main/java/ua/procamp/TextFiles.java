@@ -0,0 +1,44 @@
+package ua.procamp;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates text files for file benchmarks.
+ */
+final class TextFiles {
+    private static final String LETTERS = "eeeeeeeeeeeettttttttaaaaaaaooooooiiiiiinnnnnnssssssrrrrrhhhhhlllldddcccuummffggpp"
+            + "wwyybbvkxjqzETAOINS";
+
+    private TextFiles() {
+    }
+
+    /**
+     * Creates a temporary file of {@code size} ASCII characters: words of letters with english-like frequencies
+     * separated by spaces and line breaks.
+     *
+     * @param size a number of characters
+     * @return a path to the new file
+     * @throws IOException if the file cannot be written
+     */
+    static Path createTempFile(int size) throws IOException {
+        Path path = Files.createTempFile("benchmark", ".txt");
+        Random random = new Random(42);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            for (int i = 0, wordLength = 0; i < size; i++) {
+                if (wordLength > 2 && random.nextInt(6) == 0) {
+                    writer.write(random.nextInt(12) == 0 ? '\n' : ' ');
+                    wordLength = 0;
+                } else {
+                    writer.write(LETTERS.charAt(random.nextInt(LETTERS.length())));
+                    wordLength++;
+                }
+            }
+        }
+        return path;
+    }
+}
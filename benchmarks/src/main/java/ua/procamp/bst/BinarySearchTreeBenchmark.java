@@ -0,0 +1,133 @@
+package ua.procamp.bst;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of {@link BinarySearchTree} implementations that hold {@code size} elements inserted in random order, or
+ * in ascending order for balanced trees. Present elements are even numbers, so odd numbers are used to measure
+ * unsuccessful searches. Sorted input is not measured for unbalanced trees, because it turns them into lists, where
+ * insertion takes quadratic time and the recursion of {@link RecursiveBinarySearchTree} overflows the stack.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class BinarySearchTreeBenchmark {
+
+    public enum Implementation {
+        RECURSIVE(RecursiveBinarySearchTree::new),
+        ITERATIVE(IterativeBinarySearchTree::new),
+        AVL(AvlBinarySearchTree::new),
+        RED_BLACK(RedBlackBinarySearchTree::new);
+
+        private final Supplier<BinarySearchTree<Integer>> factory;
+
+        Implementation(Supplier<BinarySearchTree<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    public enum Order {
+        RANDOM,
+        SORTED
+    }
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param
+    private Implementation implementation;
+
+    @Param
+    private Order order;
+
+    private Integer[] elements;
+    private Integer[] missingElements;
+    private BinarySearchTree<Integer> tree;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        elements = new Integer[size];
+        missingElements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = 2 * i;
+            missingElements[i] = 2 * i + 1;
+        }
+        if (order == Order.RANDOM) {
+            shuffle(elements, random);
+        } else if (implementation == Implementation.RECURSIVE || implementation == Implementation.ITERATIVE) {
+            throw new IllegalArgumentException("Sorted input makes an unbalanced tree degenerate");
+        }
+        shuffle(missingElements, random);
+        tree = implementation.factory.get();
+        for (Integer element : elements) {
+            tree.insert(element);
+        }
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> insertAll() {
+        BinarySearchTree<Integer> tree = implementation.factory.get();
+        for (Integer element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public boolean searchPresent() {
+        return tree.search(elements[nextCursor()]);
+    }
+
+    @Benchmark
+    public boolean searchMissing() {
+        return tree.search(missingElements[nextCursor()]);
+    }
+
+    @Benchmark
+    public int height() {
+        return tree.height();
+    }
+
+    @Benchmark
+    public void inOrderTraversal(Blackhole blackhole) {
+        tree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer element : tree) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public Integer streamFindFirstAboveMedian() {
+        int median = size;
+        return tree.stream().filter(element -> element > median).findFirst().orElse(null);
+    }
+
+    private int nextCursor() {
+        int current = cursor;
+        cursor = current + 1 == size ? 0 : current + 1;
+        return current;
+    }
+
+    private static void shuffle(Integer[] array, Random random) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ua.procamp.bst;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing {@link BinarySearchTree}. Every node keeps the height of its subtree,
+ * and after an insertion every node on the path back to the root is rebalanced with one or two rotations, so heights
+ * of the two subtrees of any node differ by at most one. The height of a tree with {@code n} elements never exceeds
+ * {@code 1.44 * log2(n + 2)}, so {@link AvlBinarySearchTree#insert(Comparable)} and
+ * {@link AvlBinarySearchTree#search(Comparable)} take {@code O(log n)} time even for sorted input, and the recursion
+ * depth is bounded by the height. {@link AvlBinarySearchTree#height()} takes constant time.
+ * <p>
+ * Elements are compared with {@link Comparable#compareTo(Object)}, and duplicates are not inserted. A height of a tree
+ * is a number of edges on the longest path from the root to a leaf.
+ *
+ * @param <T> a type of elements
+ */
+public class AvlBinarySearchTree<T extends Comparable> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    @Override
+    public boolean insert(T element) {
+        int previousSize = size;
+        root = insert(root, element);
+        return size != previousSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean search(T element) {
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int height() {
+        return root == null ? 0 : root.height - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        updateHeight(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        updateHeight(node);
+        updateHeight(right);
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        updateHeight(node);
+        updateHeight(left);
+        return left;
+    }
+
+    private static void updateHeight(Node<?> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+    }
+
+    /**
+     * Returns a number of nodes on the longest path down from provided node, which is 0 for an empty subtree.
+     */
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node<T> extends TreeNode<T, Node<T>> {
+        private int height = 1;
+
+        Node(T element) {
+            super(element);
+        }
+    }
+}
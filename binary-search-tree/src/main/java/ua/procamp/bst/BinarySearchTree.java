@@ -1,11 +1,17 @@
 package ua.procamp.bst;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Binary search tree API
+ * Binary search tree API. Iteration visits elements lazily in ascending order, so a caller can stop early without
+ * walking the whole tree. The result of iteration is undefined if the tree is modified while it is iterated.
  */
-public interface BinarySearchTree<T> {
+public interface BinarySearchTree<T> extends Iterable<T> {
 	boolean insert(T element);
 
 	boolean search(T element);
@@ -15,4 +21,34 @@ public interface BinarySearchTree<T> {
 	int height();
 
 	void inOrderTraversal(Consumer<T> consumer);
+
+	/**
+	 * Returns a lazy iterator over elements in ascending order.
+	 *
+	 * @return an in-order iterator
+	 */
+	@Override
+	Iterator<T> iterator();
+
+	/**
+	 * Creates a {@link Spliterator} over elements in ascending order, that reports {@link Spliterator#SIZED},
+	 * {@link Spliterator#ORDERED}, {@link Spliterator#SORTED} and {@link Spliterator#DISTINCT}. Its comparator is
+	 * {@code null}, because elements are sorted in natural order.
+	 *
+	 * @return a spliterator over the tree elements
+	 */
+	@Override
+	default Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size(),
+				Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT);
+	}
+
+	/**
+	 * Returns a lazy sequential stream of elements in ascending order.
+	 *
+	 * @return a stream of elements
+	 */
+	default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
 }
@@ -0,0 +1,42 @@
+package ua.procamp.bst;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates elements of a binary search tree in ascending order. Keeps the path of nodes whose elements are not visited
+ * yet. Every node is pushed and popped once, so a full iteration takes O(n) time, while the stack holds at most as many
+ * nodes as the tree is high.
+ *
+ * @param <T> a type of elements
+ */
+class InOrderIterator<T> implements Iterator<T> {
+    private final Deque<TreeNode<T, ?>> stack = new ArrayDeque<>();
+
+    InOrderIterator(TreeNode<T, ?> root) {
+        pushLeft(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !stack.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (stack.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        TreeNode<T, ?> node = stack.pop();
+        pushLeft(node.right);
+        return node.element;
+    }
+
+    private void pushLeft(TreeNode<T, ?> node) {
+        for (; node != null; node = node.left) {
+            stack.push(node);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ua.procamp.bst;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link IterativeBinarySearchTree} is an unbalanced {@link BinarySearchTree} with the same behaviour as
+ * {@link RecursiveBinarySearchTree}, where every operation is implemented as a loop. Insert and search walk down a
+ * single path, while height and traversal keep pending nodes in an explicit stack on the heap. So a tree that
+ * degenerates into a list, e.g. after sorted input, is still handled without {@link StackOverflowError}, and no call
+ * overhead is paid per node.
+ *
+ * @param <T> a type of elements
+ */
+public class IterativeBinarySearchTree<T extends Comparable> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean insert(T element) {
+        if (root == null) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        Node<T> node = root;
+        while (true) {
+            int comparison = element.compareTo(node.element);
+            if (comparison < 0) {
+                if (node.left == null) {
+                    node.left = new Node<>(element);
+                    break;
+                }
+                node = node.left;
+            } else if (comparison > 0) {
+                if (node.right == null) {
+                    node.right = new Node<>(element);
+                    break;
+                }
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean search(T element) {
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the height with a depth-first walk, where the depth of every pending node is kept next to it. The stack
+     * holds at most one pending right child per level, so it never grows beyond the height of the tree.
+     *
+     * @return the number of edges on the longest path from the root to a leaf
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int height() {
+        if (root == null) {
+            return 0;
+        }
+        Node<T>[] nodes = new Node[16];
+        int[] depths = new int[16];
+        int top = 0;
+        int height = 0;
+        Node<T> node = root;
+        int depth = 0;
+        while (true) {
+            height = Math.max(height, depth);
+            if (node.left != null) {
+                if (node.right != null) {
+                    if (top == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, top * 2);
+                        depths = Arrays.copyOf(depths, top * 2);
+                    }
+                    nodes[top] = node.right;
+                    depths[top++] = depth + 1;
+                }
+                node = node.left;
+            } else if (node.right != null) {
+                node = node.right;
+            } else if (top > 0) {
+                node = nodes[--top];
+                depth = depths[top] - 1;
+                nodes[top] = null;
+            } else {
+                return height;
+            }
+            depth++;
+        }
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            consumer.accept(node.element);
+            node = node.right;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static class Node<T> extends TreeNode<T, Node<T>> {
+        Node(T element) {
+            super(element);
+        }
+    }
+}
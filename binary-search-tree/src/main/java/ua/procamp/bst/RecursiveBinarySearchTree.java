@@ -1,36 +1,110 @@
 package ua.procamp.bst;
 
+import java.util.Iterator;
 import java.util.function.Consumer;
 
+/**
+ * {@link RecursiveBinarySearchTree} is an unbalanced {@link BinarySearchTree}, where every operation is implemented as
+ * a recursive walk over nodes. Elements are compared with {@link Comparable#compareTo(Object)}, and duplicates are not
+ * inserted. A height of a tree is a number of edges on the longest path from the root to a leaf. Only the lazy
+ * {@link #iterator()} keeps pending nodes in an explicit stack. Recursion depth grows with the height of the tree, so
+ * {@link IterativeBinarySearchTree} should be used when input may make the tree degenerate.
+ *
+ * @param <T> a type of elements
+ */
 public class RecursiveBinarySearchTree<T extends Comparable> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
 
     @Override
     public boolean insert(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        if (root == null) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        boolean inserted = insert(root, element);
+        if (inserted) {
+            size++;
+        }
+        return inserted;
     }
 
+    @SuppressWarnings("unchecked")
+    private boolean insert(Node<T> node, T element) {
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            if (node.left == null) {
+                node.left = new Node<>(element);
+                return true;
+            }
+            return insert(node.left, element);
+        } else if (comparison > 0) {
+            if (node.right == null) {
+                node.right = new Node<>(element);
+                return true;
+            }
+            return insert(node.right, element);
+        }
+        return false;
+    }
 
     @Override
     public boolean search(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return search(root, element);
+    }
 
+    @SuppressWarnings("unchecked")
+    private boolean search(Node<T> node, T element) {
+        if (node == null) {
+            return false;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            return search(node.left, element);
+        } else if (comparison > 0) {
+            return search(node.right, element);
+        }
+        return true;
     }
 
     @Override
     public int size() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
-
+        return size;
     }
 
     @Override
     public int height() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return root == null ? 0 : height(root);
     }
 
+    private int height(Node<T> node) {
+        int leftHeight = node.left == null ? 0 : height(node.left) + 1;
+        int rightHeight = node.right == null ? 0 : height(node.right) + 1;
+        return Math.max(leftHeight, rightHeight);
+    }
 
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static class Node<T> extends TreeNode<T, Node<T>> {
+        Node(T element) {
+            super(element);
+        }
+    }
 }
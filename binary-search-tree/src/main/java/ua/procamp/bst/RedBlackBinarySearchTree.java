@@ -0,0 +1,144 @@
+package ua.procamp.bst;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link RedBlackBinarySearchTree} is a self-balancing {@link BinarySearchTree}, implemented as a left-leaning
+ * red-black tree. Every link is red or black, red links lean left and never follow each other, and every path from the
+ * root to a leaf has the same number of black links. Insertion restores these rules with rotations and color flips on
+ * the way back to the root. The height of a tree with {@code n} elements never exceeds {@code 2 * log2(n + 1)}, so
+ * {@link RedBlackBinarySearchTree#insert(Comparable)} and {@link RedBlackBinarySearchTree#search(Comparable)} take
+ * {@code O(log n)} time even for sorted input. Compared with {@link AvlBinarySearchTree}, a tree may be taller, but an
+ * insertion does fewer rotations, and nodes do not store heights.
+ * <p>
+ * Elements are compared with {@link Comparable#compareTo(Object)}, and duplicates are not inserted. A height of a tree
+ * is a number of edges on the longest path from the root to a leaf.
+ *
+ * @param <T> a type of elements
+ */
+public class RedBlackBinarySearchTree<T extends Comparable> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    @Override
+    public boolean insert(T element) {
+        int previousSize = size;
+        root = insert(root, element);
+        root.red = false;
+        return size != previousSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        if (isRed(node.right) && !isRed(node.left)) {
+            node = rotateLeft(node);
+        }
+        if (isRed(node.left) && isRed(node.left.left)) {
+            node = rotateRight(node);
+        }
+        if (isRed(node.left) && isRed(node.right)) {
+            flipColors(node);
+        }
+        return node;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean search(T element) {
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int height() {
+        return root == null ? 0 : height(root);
+    }
+
+    private int height(Node<T> node) {
+        int leftHeight = node.left == null ? 0 : height(node.left) + 1;
+        int rightHeight = node.right == null ? 0 : height(node.right) + 1;
+        return Math.max(leftHeight, rightHeight);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        right.red = node.red;
+        node.red = true;
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        left.red = node.red;
+        node.red = true;
+        return left;
+    }
+
+    private static void flipColors(Node<?> node) {
+        node.red = !node.red;
+        node.left.red = !node.left.red;
+        node.right.red = !node.right.red;
+    }
+
+    private static boolean isRed(Node<?> node) {
+        return node != null && node.red;
+    }
+
+    /**
+     * A node is red if the link from its parent is red. New nodes are red.
+     */
+    private static class Node<T> extends TreeNode<T, Node<T>> {
+        private boolean red = true;
+
+        Node(T element) {
+            super(element);
+        }
+    }
+}
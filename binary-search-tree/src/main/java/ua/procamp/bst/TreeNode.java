@@ -0,0 +1,18 @@
+package ua.procamp.bst;
+
+/**
+ * A node of a binary search tree, that holds an element and links to its children. Trees extend it with their own
+ * balancing data, and the type parameter {@code N} keeps the links typed as the extended node.
+ *
+ * @param <T> a type of elements
+ * @param <N> a type of nodes
+ */
+abstract class TreeNode<T, N extends TreeNode<T, N>> {
+    final T element;
+    N left;
+    N right;
+
+    TreeNode(T element) {
+        this.element = element;
+    }
+}
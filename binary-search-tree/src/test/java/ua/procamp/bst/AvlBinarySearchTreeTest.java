@@ -0,0 +1,21 @@
+package ua.procamp.bst;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class AvlBinarySearchTreeTest extends BalancedBinarySearchTreeTest {
+
+	@Override
+	protected <T extends Comparable> BinarySearchTree<T> createTree() {
+		return new AvlBinarySearchTree<>();
+	}
+
+	/**
+	 * An upper bound of the height of an AVL tree: 1.4405 * log2(n + 2) - 0.3277.
+	 */
+	@Override
+	protected int maxHeight(int n) {
+		return (int) Math.floor(1.4405 * log2(n + 2) - 0.3277);
+	}
+}
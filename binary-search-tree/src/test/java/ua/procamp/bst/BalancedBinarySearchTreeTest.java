@@ -0,0 +1,73 @@
+package ua.procamp.bst;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of a self-balancing tree, that check its height against the bound given by {@link #maxHeight(int)}.
+ */
+public abstract class BalancedBinarySearchTreeTest extends BinarySearchTreeTest {
+	private static final int SORTED_ELEMENTS = 10_000_000;
+
+	/**
+	 * Sorted input does not make a balanced tree degenerate into a list.
+	 */
+	@Test
+	@Override
+	public void testHeightOfLikedListTree() {
+		BinarySearchTree<Integer> tree = createTree();
+		for (int i = 1; i <= 5; i++) {
+			tree.insert(i);
+		}
+
+		assertThat(tree.height(), is(2));
+	}
+
+	@Test
+	public void testHeightOfSortedInputIsLogarithmic() {
+		BinarySearchTree<Integer> tree = createTree();
+		for (int i = 0; i < SORTED_ELEMENTS; i++) {
+			tree.insert(i);
+		}
+
+		assertThat(tree.size(), is(SORTED_ELEMENTS));
+		assertThat(tree.height(), lessThanOrEqualTo(maxHeight(SORTED_ELEMENTS)));
+		assertThat(tree.search(0), is(true));
+		assertThat(tree.search(SORTED_ELEMENTS - 1), is(true));
+		assertThat(tree.search(SORTED_ELEMENTS), is(false));
+	}
+
+	@Test
+	public void testRandomInput() {
+		BinarySearchTree<Integer> tree = createTree();
+		Random random = new Random(42);
+		TreeSet<Integer> expected = new TreeSet<>();
+		for (int i = 0; i < 100_000; i++) {
+			int element = random.nextInt(50_000);
+			assertThat(tree.insert(element), is(expected.add(element)));
+		}
+		List<Integer> elements = new ArrayList<>();
+
+		tree.inOrderTraversal(elements::add);
+
+		assertThat(elements, is(new ArrayList<>(expected)));
+		assertThat(tree.height(), lessThanOrEqualTo(maxHeight(expected.size())));
+	}
+
+	/**
+	 * Returns an upper bound of the height of a tree with {@code n} elements.
+	 */
+	protected abstract int maxHeight(int n);
+
+	protected static double log2(double value) {
+		return Math.log(value) / Math.log(2);
+	}
+}
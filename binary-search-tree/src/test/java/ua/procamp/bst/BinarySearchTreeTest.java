@@ -5,17 +5,28 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 @RunWith(JUnit4.class)
 public class BinarySearchTreeTest {
 
-	private BinarySearchTree<Integer> bst = new RecursiveBinarySearchTree<>();
+	private BinarySearchTree<Integer> bst = createTree();
+
+	protected <T extends Comparable> BinarySearchTree<T> createTree() {
+		return new RecursiveBinarySearchTree<>();
+	}
 
 	@Test
 	public void testInsertIntoEmptyTree() {
@@ -206,4 +217,79 @@ public class BinarySearchTreeTest {
 		assertThat(treeElementsList.size(), is(bst.size()));
 		assertThat(treeElementsList, contains(2, 14, 23, 324, 1551));
 	}
+
+	@Test
+	public void testIteratorOfEmptyTree() {
+		Iterator<Integer> iterator = bst.iterator();
+
+		assertThat(iterator.hasNext(), is(false));
+		try {
+			iterator.next();
+			fail("Exception should be thrown");
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testIteratorVisitsElementsInOrder() {
+		bst.insert(324);
+		bst.insert(23);
+		bst.insert(14);
+		bst.insert(1551);
+		bst.insert(2);
+
+		List<Integer> treeElementsList = new ArrayList<>(bst.size());
+		for (Integer element : bst) {
+			treeElementsList.add(element);
+		}
+
+		assertThat(treeElementsList, contains(2, 14, 23, 324, 1551));
+	}
+
+	@Test
+	public void testStreamStopsEarly() {
+		for (int i = 0; i < 100; i++) {
+			bst.insert((i * 37) % 100);
+		}
+
+		Optional<Integer> firstAboveFifty = bst.stream()
+				.filter(element -> element > 50)
+				.findFirst();
+
+		assertThat(firstAboveFifty, is(Optional.of(51)));
+	}
+
+	@Test
+	public void testStream() {
+		bst.insert(5);
+		bst.insert(3);
+		bst.insert(8);
+		bst.insert(1);
+
+		List<Integer> treeElementsList = bst.stream()
+				.map(element -> element * 10)
+				.collect(Collectors.toList());
+
+		assertThat(treeElementsList, contains(10, 30, 50, 80));
+	}
+
+	@Test
+	public void testSpliteratorCharacteristics() {
+		bst.insert(2);
+		bst.insert(1);
+
+		Spliterator<Integer> spliterator = bst.spliterator();
+
+		assertThat(spliterator.getExactSizeIfKnown(), is(2L));
+		assertThat(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT), is(true));
+	}
+
+	@Test
+	public void testSpliteratorIsSortedInNaturalOrder() {
+		bst.insert(2);
+		bst.insert(1);
+
+		assertThat(bst.spliterator().getComparator(), is(nullValue()));
+	}
 }
@@ -0,0 +1,56 @@
+package ua.procamp.bst;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(JUnit4.class)
+public class IterativeBinarySearchTreeTest extends BinarySearchTreeTest {
+	private static final int DEGENERATE_ELEMENTS = 50_000;
+
+	@Override
+	protected <T extends Comparable> BinarySearchTree<T> createTree() {
+		return new IterativeBinarySearchTree<>();
+	}
+
+	/**
+	 * Sorted input turns the tree into a list, that is too deep for recursive operations.
+	 */
+	@Test
+	public void testDegenerateTreeDoesNotOverflowStack() {
+		BinarySearchTree<Integer> tree = createTree();
+		for (int i = 0; i < DEGENERATE_ELEMENTS; i++) {
+			tree.insert(i);
+		}
+
+		assertThat(tree.size(), is(DEGENERATE_ELEMENTS));
+		assertThat(tree.height(), is(DEGENERATE_ELEMENTS - 1));
+		assertThat(tree.search(DEGENERATE_ELEMENTS - 1), is(true));
+		assertThat(tree.search(DEGENERATE_ELEMENTS), is(false));
+
+		int[] expected = {0};
+		tree.inOrderTraversal(element -> assertThat(element, is(expected[0]++)));
+		assertThat(expected[0], is(DEGENERATE_ELEMENTS));
+
+		Iterator<Integer> iterator = tree.iterator();
+		for (int i = 0; i < DEGENERATE_ELEMENTS; i++) {
+			assertThat(iterator.next(), is(i));
+		}
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void testHeightOfBushyTree() {
+		BinarySearchTree<Integer> tree = createTree();
+		for (int element : new int[]{50, 25, 75, 10, 30, 60, 90, 5, 27, 35, 28}) {
+			tree.insert(element);
+		}
+
+		assertThat(tree.height(), is(4));
+	}
+}
@@ -0,0 +1,21 @@
+package ua.procamp.bst;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class RedBlackBinarySearchTreeTest extends BalancedBinarySearchTreeTest {
+
+	@Override
+	protected <T extends Comparable> BinarySearchTree<T> createTree() {
+		return new RedBlackBinarySearchTree<>();
+	}
+
+	/**
+	 * An upper bound of the height of a red-black tree: 2 * log2(n + 1).
+	 */
+	@Override
+	protected int maxHeight(int n) {
+		return (int) Math.floor(2 * log2(n + 1));
+	}
+}
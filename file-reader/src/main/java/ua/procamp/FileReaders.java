@@ -1,17 +1,48 @@
 package ua.procamp;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
 /**
  * {@link FileReaders} privides an API that allow to read whole file into a {@link String} by file name.
  */
 public class FileReaders {
 
     /**
-     * Returns a {@link String} that contains whole text from the file specified by name.
+     * Returns a {@link String} that contains whole text from the file specified by name. The file is looked up on the
+     * class path, so it can also be packed into a jar. I/O errors are rethrown as {@link UncheckedIOException}.
      *
      * @param fileName a name of a text file
      * @return string that holds whole file content
      */
     public static String readWholeFile(String fileName) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        try (InputStream in = FileReaders.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (in == null) {
+                throw new NoSuchFileException(fileName);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Cannot read file %s", fileName), e);
+        }
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from a file in the file system. I/O errors are rethrown as
+     * {@link UncheckedIOException}.
+     *
+     * @param path a path of a text file
+     * @return string that holds whole file content
+     */
+    public static String readWholeFile(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Cannot read file %s", path), e);
+        }
     }
 }
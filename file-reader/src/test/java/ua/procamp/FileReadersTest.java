@@ -1,14 +1,24 @@
 package ua.procamp;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.junit.Assert.assertEquals;
 
 @RunWith(JUnit4.class)
 public class FileReadersTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testReadWholeFileOnEmptyFile() {
         String fileContent = FileReaders.readWholeFile("empty.txt");
@@ -34,4 +44,17 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testReadWholeFileOnNonExistingFile() {
+        FileReaders.readWholeFile("blahblah.txt");
+    }
+
+    @Test
+    public void testReadWholeFileByPath() throws IOException {
+        Path file = folder.newFile("text.txt").toPath();
+        Files.writeString(file, "Hello!\nIt's a test file.");
+
+        assertEquals("Hello!\n" + "It's a test file.", FileReaders.readWholeFile(file));
+    }
 }
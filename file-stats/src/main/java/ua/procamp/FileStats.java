@@ -1,18 +1,67 @@
 package ua.procamp;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static java.util.Comparator.comparing;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
  */
 public class FileStats {
+    private final Map<Character, Long> characterCounts;
+
+    private FileStats(Map<Character, Long> characterCounts) {
+        this.characterCounts = characterCounts;
+    }
+
     /**
-     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
+     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter. The file is
+     * looked up on the class path, so it can also be packed into a jar. Throws {@link FileStatsException} if the file
+     * cannot be found or read.
      *
      * @param fileName input text file name
      * @return new FileStats object created from text file
      */
     public static FileStats from(String fileName) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        try (InputStream in = FileStats.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (in == null) {
+                throw new FileStatsException(String.format("Cannot find file %s", fileName));
+            }
+            return of(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FileStatsException(String.format("Cannot read file %s", fileName), e);
+        }
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from a text file in the file system. Throws
+     * {@link FileStatsException} if the file cannot be read.
+     *
+     * @param path input text file path
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path path) {
+        try {
+            return of(Files.readString(path));
+        } catch (IOException e) {
+            throw new FileStatsException(String.format("Cannot read file %s", path), e);
+        }
+    }
+
+    private static FileStats of(String text) {
+        return new FileStats(text.chars()
+                .filter(c -> !Character.isWhitespace(c))
+                .mapToObj(c -> (char) c)
+                .collect(groupingBy(identity(), counting())));
     }
 
     /**
@@ -22,7 +71,7 @@ public class FileStats {
      * @return a number that shows how many times this character appeared in a text file
      */
     public int getCharCount(char character) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return characterCounts.getOrDefault(character, 0L).intValue();
     }
 
     /**
@@ -31,7 +80,10 @@ public class FileStats {
      * @return the most frequently appeared character
      */
     public char getMostPopularCharacter() {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return characterCounts.entrySet().stream()
+                .max(comparing(Map.Entry::getValue))
+                .map(Map.Entry::getKey)
+                .orElseThrow(() -> new FileStatsException("File contains no characters"));
     }
 
     /**
@@ -41,6 +93,6 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return characterCounts.containsKey(character);
     }
 }
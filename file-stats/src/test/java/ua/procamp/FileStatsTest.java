@@ -1,9 +1,16 @@
 package ua.procamp;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -11,6 +18,8 @@ import static org.junit.Assert.assertTrue;
 @RunWith(JUnit4.class)
 public class FileStatsTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void testCreateFileStatsFromExistingFile() {
@@ -22,6 +31,23 @@ public class FileStatsTest {
         FileStats fileStats = FileStats.from("blahblah.txt");
     }
 
+    @Test
+    public void testCreateFileStatsFromPath() throws IOException {
+        Path file = folder.newFile("text.txt").toPath();
+        Files.writeString(file, "aab b\nc");
+
+        FileStats fileStats = FileStats.from(file);
+
+        assertEquals(2, fileStats.getCharCount('a'));
+        assertEquals(2, fileStats.getCharCount('b'));
+        assertFalse(fileStats.containsCharacter(' '));
+    }
+
+    @Test(expected = FileStatsException.class)
+    public void testCreateFileStatsFromNonExistingPath() {
+        FileStats.from(Paths.get("blahblah.txt"));
+    }
+
     @Test
     public void testGetCharCount() {
         FileStats lambdaArticleFileStats = FileStats.from("sotl.txt");
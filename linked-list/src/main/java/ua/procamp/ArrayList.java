@@ -0,0 +1,453 @@
+package ua.procamp;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link ArrayList} is a list implementation that is based on a growable array. Elements are stored in a contiguous
+ * {@code Object[]}, so {@link ArrayList#get(int)} and {@link ArrayList#set(int, Object)} take constant time and a scan
+ * of the list reads memory sequentially. When the array is full, it grows by half of its length, so
+ * {@link ArrayList#add(Object)} takes amortized constant time. Insertions and removals in the middle shift the tail of
+ * the array with {@link System#arraycopy(Object, int, Object, int, int)}.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayList<T> implements List<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    private Object[] elements;
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates an empty list. The array is allocated on the first insertion.
+     */
+    public ArrayList() {
+        elements = EMPTY_ELEMENTS;
+    }
+
+    /**
+     * Creates an empty list that can hold provided number of elements without growing. Throws
+     * {@link IllegalArgumentException} if capacity is negative.
+     *
+     * @param initialCapacity an initial capacity
+     */
+    public ArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(String.format("Illegal capacity: %d", initialCapacity));
+        }
+        elements = initialCapacity == 0 ? EMPTY_ELEMENTS : new Object[initialCapacity];
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        ArrayList<T> list = new ArrayList<>(elements.length);
+        System.arraycopy(elements, 0, list.elements, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[size++] = element;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        checkElementIndex(index);
+        elements[index] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkElementIndex(index);
+        return (T) elements[index];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        checkElementIndex(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. The array keeps its capacity, but references to elements are cleared, so they can be
+     * garbage collected.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. The array grows at most once and the
+     * tail of the array is shifted with a single {@link System#arraycopy(Object, int, Object, int, int)}. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        Object[] added = elements.toArray();
+        int count = added.length;
+        if (count == 0) {
+            return;
+        }
+        if (count > this.elements.length - size) {
+            grow(size + count);
+        }
+        System.arraycopy(this.elements, index, this.elements, index + count, size - index);
+        System.arraycopy(added, 0, this.elements, index, count);
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. Elements to remove are marked first, and then the remaining
+     * elements are compacted in a single pass, so the list is left unchanged if the predicate throws an exception.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        BitSet removed = new BitSet(size);
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            if (filter.test((T) elements[i])) {
+                removed.set(i);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!removed.get(i)) {
+                elements[newSize++] = elements[i];
+            }
+        }
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces every element with the result of the operator applied to it.
+     *
+     * @param operator an operator to apply
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            elements[i] = operator.apply((T) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Sorts the array in place with {@link Arrays#sort(Object[], int, int, Comparator)}, which is stable. A
+     * {@code null} comparator sorts elements in their natural order.
+     *
+     * @param comparator a comparator or {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        int expectedModCount = modCount;
+        Arrays.sort((T[]) elements, 0, size, comparator);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements, that supports {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator();
+    }
+
+    /**
+     * Passes every element to the action in the list order. Throws {@link ConcurrentModificationException} if the
+     * list is structurally modified by the action.
+     *
+     * @param action an action to perform
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] elements = this.elements;
+        int size = this.size;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept((T) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Creates a {@link Spliterator} that reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+     * {@link Spliterator#ORDERED}, and splits an index range in halves. The spliterator is fail-fast.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, size, modCount);
+    }
+
+    private class ArrayIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) elements[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ArraySpliterator implements Spliterator<T> {
+        private final int fence;
+        private final int expectedModCount;
+        private int index;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            action.accept((T) elements[index++]);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            Object[] elements = ArrayList.this.elements;
+            for (; index < fence; index++) {
+                action.accept((T) elements[index]);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new ArraySpliterator(index, middle, expectedModCount);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+    }
+
+    private void grow() {
+        grow(size + 1);
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("List is too large");
+        }
+        int capacity = elements.length;
+        long grownCapacity = capacity + (long) (capacity >> 1);
+        int newCapacity = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(grownCapacity, Math.max(DEFAULT_CAPACITY, minCapacity)));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
@@ -0,0 +1,233 @@
+package ua.procamp;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+
+/**
+ * {@link DoubleList} is a list of {@code double} values that is based on a growable {@code double[]}. It has the same
+ * operations and the same {@link IndexOutOfBoundsException} semantics as {@link List}, but stores values without
+ * boxing, so a value costs 8 bytes instead of a reference and a {@link Double} object.
+ */
+public class DoubleList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double[] EMPTY_ELEMENTS = {};
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Creates an empty list. The array is allocated on the first insertion.
+     */
+    public DoubleList() {
+        elements = EMPTY_ELEMENTS;
+    }
+
+    /**
+     * Creates an empty list that can hold provided number of values without growing. Throws
+     * {@link IllegalArgumentException} if capacity is negative.
+     *
+     * @param initialCapacity an initial capacity
+     */
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(String.format("Illegal capacity: %d", initialCapacity));
+        }
+        elements = initialCapacity == 0 ? EMPTY_ELEMENTS : new double[initialCapacity];
+    }
+
+    /**
+     * Creates a list of provided values.
+     *
+     * @param elements values to add
+     * @return a new list of values the were passed as method parameters
+     */
+    public static DoubleList of(double... elements) {
+        DoubleList list = new DoubleList(elements.length);
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param element a value to add
+     */
+    public void add(double element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Adds all values to the end of the list with a single copy.
+     *
+     * @param elements values to add
+     */
+    public void addAll(double[] elements) {
+        if (this.elements.length - size < elements.length) {
+            grow(size + elements.length);
+        }
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Adds a new value to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new value
+     * @param element a value to add
+     */
+    public void add(int index, double element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Changes the value at specific position. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of value to change
+     * @param element a new value
+     */
+    public void set(int index, double element) {
+        checkIndex(index);
+        elements[index] = element;
+    }
+
+    /**
+     * Retrieves a value by its position index. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index value index
+     * @return a value
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Removes a value by its position index. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index value index
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Checks if a specific value exists in the list. Values are compared like {@link Double#equals(Object)} does, so
+     * {@code NaN} can be found, and {@code 0.0} and {@code -0.0} are different values.
+     *
+     * @param element a value to find
+     * @return {@code true} if value exist, {@code false} otherwise
+     */
+    public boolean contains(double element) {
+        long bits = Double.doubleToLongBits(element);
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[i]) == bits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in the list
+     *
+     * @return number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list values. The array keeps its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a new array that contains all values in the list order.
+     *
+     * @return an array of values
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns an iterator over values that doesn't box them.
+     *
+     * @return a primitive iterator
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of values backed by the list array, that is sized and splits evenly, so it can be
+     * made parallel with {@link DoubleStream#parallel()}. The list should not be modified while the stream is consumed.
+     *
+     * @return a stream of values
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("List is too large");
+        }
+        int capacity = elements.length;
+        long grownCapacity = capacity + (long) (capacity >> 1);
+        int newCapacity = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(grownCapacity, Math.max(DEFAULT_CAPACITY, minCapacity)));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
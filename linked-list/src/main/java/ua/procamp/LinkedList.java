@@ -1,12 +1,29 @@
 package ua.procamp;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
- * inner static class {@link Node<T>}. In order to keep track on nodes, {@link LinkedList} keeps a reference to a head node.
+ * inner static class {@link Node<T>}. In order to keep track on nodes, {@link LinkedList} keeps a reference to a head node,
+ * and a reference to a tail node, so elements are appended in constant time.
  *
  * @param <T> generic type parameter
  */
 public class LinkedList<T> implements List<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
 
     /**
      * This method creates a list of provided elements
@@ -15,8 +32,17 @@ public class LinkedList<T> implements List<T> {
      * @param <T>      generic type
      * @return a new list of elements the were passed as method parameters
      */
+    @SafeVarargs
     public static <T> List<T> of(T... elements) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        LinkedList<T> list = new LinkedList<>();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            list.head = new Node<>(elements[i], list.head);
+            if (list.tail == null) {
+                list.tail = list.head;
+            }
+        }
+        list.size = elements.length;
+        return list;
     }
 
     /**
@@ -26,7 +52,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        add(size, element);
     }
 
     /**
@@ -38,7 +64,23 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        if (index == 0) {
+            head = new Node<>(element, head);
+            if (tail == null) {
+                tail = head;
+            }
+        } else if (index == size) {
+            tail.next = new Node<>(element, null);
+            tail = tail.next;
+        } else {
+            Node<T> previous = node(index - 1);
+            previous.next = new Node<>(element, previous.next);
+        }
+        size++;
+        modCount++;
     }
 
     /**
@@ -50,7 +92,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void set(int index, T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        checkElementIndex(index);
+        node(index).value = element;
     }
 
     /**
@@ -62,7 +105,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T get(int index) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        checkElementIndex(index);
+        return node(index).value;
     }
 
     /**
@@ -73,10 +117,23 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void remove(int index) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        checkElementIndex(index);
+        if (index == 0) {
+            head = head.next;
+            if (head == null) {
+                tail = null;
+            }
+        } else {
+            Node<T> previous = node(index - 1);
+            previous.next = previous.next.next;
+            if (previous.next == null) {
+                tail = previous;
+            }
+        }
+        size--;
+        modCount++;
     }
 
-
     /**
      * Checks if a specific exists in he list
      *
@@ -84,7 +141,12 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        for (Node<T> current = head; current != null; current = current.next) {
+            if (Objects.equals(current.value, element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -94,7 +156,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return size == 0;
     }
 
     /**
@@ -104,7 +166,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public int size() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return size;
     }
 
     /**
@@ -112,6 +174,377 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void clear() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. New nodes are linked into a chain
+     * first, and then the chain is spliced into the list, so the list is walked at most once. In case provided index in
+     * out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> node = new Node<>(element, null);
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        if (index == 0) {
+            last.next = head;
+            head = first;
+        } else {
+            Node<T> previous = index == size ? tail : node(index - 1);
+            last.next = previous.next;
+            previous.next = first;
+        }
+        if (last.next == null) {
+            tail = last;
+        }
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate in a single pass over nodes.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        Node<T> previous = null;
+        for (Node<T> current = head; current != null; current = current.next) {
+            boolean remove = filter.test(current.value);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remove) {
+                if (previous == null) {
+                    head = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                size--;
+                expectedModCount = ++modCount;
+                removed = true;
+            } else {
+                previous = current;
+            }
+        }
+        tail = previous;
+        return removed;
+    }
+
+    /**
+     * Replaces every element with the result of the operator applied to it in a single pass over nodes.
+     *
+     * @param operator an operator to apply
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        for (Node<T> current = head; current != null && modCount == expectedModCount; current = current.next) {
+            current.value = operator.apply(current.value);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Sorts the list with a stable bottom-up merge sort, that relinks nodes instead of copying elements, so it takes
+     * {@code O(n log n)} time and constant extra memory. A {@code null} comparator sorts elements in their natural
+     * order. If the comparator throws an exception or an error, the list keeps all elements in an unspecified order.
+     *
+     * @param comparator a comparator or {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        Comparator<? super T> order = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        int expectedModCount = modCount;
+        Node<T> start = new Node<>(null, head);
+        boolean sorted = false;
+        try {
+            for (int width = 1; width < size; width *= 2) {
+                Node<T> previous = start;
+                Node<T> current = start.next;
+                while (current != null) {
+                    Node<T> left = current;
+                    Node<T> right = cut(left, width);
+                    current = cut(right, width);
+                    previous = merge(previous, left, right, current, order);
+                }
+                head = start.next;
+                tail = previous;
+            }
+            sorted = true;
+        } finally {
+            if (!sorted) {
+                head = start.next;
+                tail = node(size - 1);
+                modCount++;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements, that supports {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator();
+    }
+
+    /**
+     * Passes every element to the action in the list order. Throws {@link ConcurrentModificationException} if the
+     * list is structurally modified by the action.
+     *
+     * @param action an action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Node<T> current = head; current != null && modCount == expectedModCount; current = current.next) {
+            action.accept(current.value);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Creates a {@link Spliterator} that reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+     * {@link Spliterator#ORDERED}. Nodes can only be walked one by one, so a split copies a batch of elements into an
+     * array, and batches grow with every split. The spliterator is fail-fast.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator();
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+    }
+
+    /**
+     * Detaches a run of at most {@code length} nodes that starts from provided node, and returns the node that follows
+     * the run.
+     */
+    private static <T> Node<T> cut(Node<T> node, int length) {
+        for (int i = 1; node != null && i < length; i++) {
+            node = node.next;
+        }
+        if (node == null) {
+            return null;
+        }
+        Node<T> next = node.next;
+        node.next = null;
+        return next;
+    }
+
+    /**
+     * Merges two sorted runs after provided node, links the rest of the list after the merged run, and returns the last
+     * node of the merged run. On ties the left node goes first, which keeps the sort stable. If the comparator throws,
+     * the remaining nodes of both runs are linked back before the exception is rethrown.
+     */
+    private static <T> Node<T> merge(Node<T> previous, Node<T> left, Node<T> right, Node<T> rest,
+                                     Comparator<? super T> order) {
+        try {
+            while (left != null && right != null) {
+                if (order.compare(right.value, left.value) < 0) {
+                    previous.next = right;
+                    right = right.next;
+                } else {
+                    previous.next = left;
+                    left = left.next;
+                }
+                previous = previous.next;
+            }
+        } finally {
+            previous = append(append(previous, left), right);
+            previous.next = rest;
+        }
+        return previous;
+    }
+
+    private static <T> Node<T> append(Node<T> last, Node<T> run) {
+        last.next = run;
+        while (last.next != null) {
+            last = last.next;
+        }
+        return last;
+    }
+
+    private Node<T> node(int index) {
+        Node<T> current = head;
+        for (int i = 0; i < index; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    private class NodeIterator implements Iterator<T> {
+        private Node<T> next = head;
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (lastReturned != null) {
+                beforeLastReturned = lastReturned;
+            }
+            lastReturned = next;
+            next = next.next;
+            return lastReturned.value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (beforeLastReturned == null) {
+                head = next;
+            } else {
+                beforeLastReturned.next = next;
+            }
+            if (next == null) {
+                tail = beforeLastReturned;
+            }
+            lastReturned = null;
+            size--;
+            expectedModCount = ++modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class NodeSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private final int expectedModCount = modCount;
+        private Node<T> current = head;
+        private int remaining = size;
+        private int batch;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (remaining == 0) {
+                return false;
+            }
+            checkForComodification();
+            T value = current.value;
+            current = current.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            for (; remaining > 0; remaining--) {
+                action.accept(current.value);
+                current = current.next;
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            checkForComodification();
+            int count = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = current.value;
+                current = current.next;
+            }
+            remaining -= count;
+            batch = count;
+            return Spliterators.spliterator(values, 0, count, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private static class Node<T> {
+        private T value;
+        private Node<T> next;
+
+        Node(T value, Node<T> next) {
+            this.value = value;
+            this.next = next;
+        }
     }
 }
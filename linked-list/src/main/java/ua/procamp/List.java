@@ -1,7 +1,25 @@
 package ua.procamp;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+/**
+ * An ordered collection of elements that can be accessed by index. Iterators of implementations are fail-fast: if the
+ * list is structurally modified after an iterator was created, in any way other than through the iterator's own
+ * {@link java.util.Iterator#remove()}, the iterator throws {@link java.util.ConcurrentModificationException}.
+ *
+ * @param <T> generic type parameter
+ */
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -20,4 +38,106 @@ public interface List<T> {
 
     void clear();
 
+    /**
+     * Adds all elements of the collection to the end of the list, in the collection iteration order.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        addAll(size(), elements);
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position, in the collection iteration order.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}. Implementations
+     * insert all elements in a single pass.
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    default void addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+        }
+        for (T element : elements) {
+            add(index++, element);
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. Implementations remove all elements in a single pass.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (Iterator<T> iterator = iterator(); iterator.hasNext(); ) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces every element with the result of the operator applied to it.
+     *
+     * @param operator an operator to apply
+     */
+    default void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        for (int i = 0; i < size(); i++) {
+            set(i, operator.apply(get(i)));
+        }
+    }
+
+    /**
+     * Sorts the list with a stable sort, so equal elements keep their order. A {@code null} comparator sorts elements
+     * in their natural order.
+     *
+     * @param comparator a comparator or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default void sort(Comparator<? super T> comparator) {
+        Object[] elements = new Object[size()];
+        int i = 0;
+        for (T element : this) {
+            elements[i++] = element;
+        }
+        Arrays.sort(elements, (Comparator<Object>) comparator);
+        clear();
+        addAll(Arrays.asList((T[]) elements));
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements of the list that reports {@link Spliterator#SIZED} and
+     * {@link Spliterator#ORDERED}. Implementations override it with spliterators that split better.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream of the list elements.
+     *
+     * @return a stream of elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the list elements.
+     *
+     * @return a parallel stream of elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,627 @@
+package ua.procamp;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on singly linked nodes, where every node holds a
+ * chunk of elements in a small array. Elements of a chunk are adjacent in memory, so a scan touches one node per chunk
+ * instead of one node per element.
+ * <p>
+ * Besides links, the list keeps a skip index: an array of nodes in the list order together with an array of the first
+ * element index of every node. A node is found by binary search over the index, and then an element is found inside
+ * the chunk. A full node is split in two on insertion, and a node that becomes less than half full on removal is merged
+ * with the next or the previous one when they fit into a single chunk. Chunk capacity follows the square root of the
+ * list size, and nodes are repacked when there are more than {@code 2 * size / chunkCapacity + 1} of them, so nodes stay
+ * half full on average. Therefore {@link UnrolledLinkedList#get(int)}, {@link UnrolledLinkedList#add(int, Object)} and
+ * {@link UnrolledLinkedList#remove(int)} take {@code O(sqrt(n))} amortized time: shifting inside a chunk and updating
+ * the index are both bounded by the number of chunks or the chunk size.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int MIN_CHUNK_CAPACITY = 16;
+
+    private int chunkCapacity = MIN_CHUNK_CAPACITY;
+    private Node[] nodes = new Node[1];
+    private int[] offsets = new int[1];
+    private int nodeCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        UnrolledLinkedList<T> list = new UnrolledLinkedList<>();
+        list.rebuild(elements, elements.length);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        add(size, element);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        if (nodeCount == 0) {
+            insertNode(0, new Node(chunkCapacity), 0);
+        }
+        int position = index == size ? nodeCount - 1 : nodePosition(index);
+        Node node = nodes[position];
+        int offset = index - offsets[position];
+        if (node.size == node.elements.length) {
+            split(position);
+            if (offset > node.size) {
+                offset -= node.size;
+                node = nodes[++position];
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.size - offset);
+        node.elements[offset] = element;
+        node.size++;
+        shiftOffsets(position + 1, 1);
+        size++;
+        modCount++;
+        if (size > 4L * chunkCapacity * chunkCapacity || hasTooManyNodes()) {
+            rebuild(toArray(), size);
+        }
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        checkElementIndex(index);
+        int position = nodePosition(index);
+        nodes[position].elements[index - offsets[position]] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkElementIndex(index);
+        int position = nodePosition(index);
+        return (T) nodes[position].elements[index - offsets[position]];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        checkElementIndex(index);
+        int position = nodePosition(index);
+        Node node = nodes[position];
+        int offset = index - offsets[position];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.size - offset - 1);
+        node.elements[--node.size] = null;
+        shiftOffsets(position + 1, -1);
+        size--;
+        modCount++;
+        if (node.size == 0) {
+            removeNode(position);
+        } else if (node.size < node.elements.length / 2) {
+            if (node.next != null && node.size + node.next.size <= node.elements.length) {
+                merge(position);
+            } else if (position > 0 && nodes[position - 1].size + node.size <= node.elements.length) {
+                merge(position - 1);
+            }
+        }
+        if (chunkCapacity > MIN_CHUNK_CAPACITY && size < (long) chunkCapacity * chunkCapacity / 4
+                || hasTooManyNodes()) {
+            rebuild(toArray(), size);
+        }
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node node = nodeCount == 0 ? null : nodes[0]; node != null; node = node.next) {
+            for (int i = 0; i < node.size; i++) {
+                if (Objects.equals(node.elements[i], element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        chunkCapacity = MIN_CHUNK_CAPACITY;
+        nodes = new Node[1];
+        offsets = new int[1];
+        nodeCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. Elements are copied into a single
+     * array together with the list elements, and chunks and the skip index are rebuilt once, instead of splitting a
+     * chunk per insertion. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        Object[] added = elements.toArray();
+        if (added.length == 0) {
+            return;
+        }
+        Object[] current = toArray();
+        Object[] all = new Object[Math.addExact(size, added.length)];
+        System.arraycopy(current, 0, all, 0, index);
+        System.arraycopy(added, 0, all, index, added.length);
+        System.arraycopy(current, index, all, index + added.length, size - index);
+        rebuild(all, all.length);
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. Remaining elements are packed into a single array, and chunks
+     * and the skip index are rebuilt once.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        Object[] elements = toArray();
+        int newSize = 0;
+        for (Object element : elements) {
+            if (!filter.test((T) element)) {
+                elements[newSize++] = element;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (newSize == size) {
+            return false;
+        }
+        rebuild(elements, newSize);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces every element with the result of the operator applied to it, chunk by chunk.
+     *
+     * @param operator an operator to apply
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        for (int position = 0; position < nodeCount && modCount == expectedModCount; position++) {
+            Node node = nodes[position];
+            for (int i = 0; i < node.size && modCount == expectedModCount; i++) {
+                node.elements[i] = operator.apply((T) node.elements[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Copies elements into an array, sorts it with {@link Arrays#sort(Object[], Comparator)}, which is stable, and
+     * writes sorted elements back into the same chunks. A {@code null} comparator sorts elements in their natural
+     * order.
+     *
+     * @param comparator a comparator or {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        int expectedModCount = modCount;
+        T[] elements = (T[]) toArray();
+        Arrays.sort(elements, comparator);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        int copied = 0;
+        for (int position = 0; position < nodeCount; position++) {
+            System.arraycopy(elements, copied, nodes[position].elements, 0, nodes[position].size);
+            copied += nodes[position].size;
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements, that supports {@link Iterator#remove()}. The iterator walks
+     * chunks directly, and uses the skip index only to find its place again after a removal.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * Passes every element to the action in the list order. Throws {@link ConcurrentModificationException} if the
+     * list is structurally modified by the action.
+     *
+     * @param action an action to perform
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Node node = nodeCount == 0 ? null : nodes[0]; node != null; node = node.next) {
+            for (int i = 0; i < node.size; i++) {
+                action.accept((T) node.elements[i]);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a {@link Spliterator} that reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+     * {@link Spliterator#ORDERED}, and splits an index range in halves. Each part finds its first chunk with the skip
+     * index and then walks chunks. The spliterator is fail-fast.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ChunkSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Returns the number of nodes.
+     */
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the capacity of a chunk.
+     */
+    int chunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * Checks if nodes are less than half full on average, which happens when a node shrinks between full neighbours,
+     * and cannot be merged with any of them.
+     */
+    private boolean hasTooManyNodes() {
+        return nodeCount > 2L * size / chunkCapacity + 1;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+    }
+
+    /**
+     * Finds the last node, which first element index is not greater than the provided index.
+     */
+    private int nodePosition(int index) {
+        int low = 0;
+        int high = nodeCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private void shiftOffsets(int fromPosition, int delta) {
+        for (int i = fromPosition; i < nodeCount; i++) {
+            offsets[i] += delta;
+        }
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node that follows it.
+     */
+    private void split(int position) {
+        Node node = nodes[position];
+        Node newNode = new Node(chunkCapacity);
+        int half = node.size / 2;
+        newNode.size = node.size - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, newNode.size);
+        Arrays.fill(node.elements, half, node.size, null);
+        node.size = half;
+        insertNode(position + 1, newNode, offsets[position] + half);
+    }
+
+    /**
+     * Moves all elements of the next node into the node at provided position, and unlinks the next node.
+     */
+    private void merge(int position) {
+        Node node = nodes[position];
+        Node next = node.next;
+        System.arraycopy(next.elements, 0, node.elements, node.size, next.size);
+        node.size += next.size;
+        removeNode(position + 1);
+    }
+
+    private void insertNode(int position, Node node, int offset) {
+        if (nodeCount == nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodeCount * 2);
+            offsets = Arrays.copyOf(offsets, nodeCount * 2);
+        }
+        System.arraycopy(nodes, position, nodes, position + 1, nodeCount - position);
+        System.arraycopy(offsets, position, offsets, position + 1, nodeCount - position);
+        nodes[position] = node;
+        offsets[position] = offset;
+        nodeCount++;
+        node.next = position + 1 < nodeCount ? nodes[position + 1] : null;
+        if (position > 0) {
+            nodes[position - 1].next = node;
+        }
+    }
+
+    private void removeNode(int position) {
+        Node node = nodes[position];
+        if (position > 0) {
+            nodes[position - 1].next = node.next;
+        }
+        System.arraycopy(nodes, position + 1, nodes, position, nodeCount - position - 1);
+        System.arraycopy(offsets, position + 1, offsets, position, nodeCount - position - 1);
+        nodes[--nodeCount] = null;
+    }
+
+    private Object[] toArray() {
+        Object[] elements = new Object[size];
+        int copied = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            System.arraycopy(nodes[i].elements, 0, elements, copied, nodes[i].size);
+            copied += nodes[i].size;
+        }
+        return elements;
+    }
+
+    /**
+     * Chooses a chunk capacity close to the square root of the size, and packs the elements into new nodes, so the
+     * number of nodes and the chunk capacity stay in balance.
+     */
+    private void rebuild(Object[] elements, int size) {
+        chunkCapacity = MIN_CHUNK_CAPACITY;
+        while ((long) chunkCapacity * chunkCapacity < size) {
+            chunkCapacity *= 2;
+        }
+        int fill = chunkCapacity * 3 / 4;
+        int count = (size + fill - 1) / fill;
+        nodes = new Node[Math.max(count, 1)];
+        offsets = new int[nodes.length];
+        nodeCount = 0;
+        this.size = size;
+        for (int offset = 0; offset < size; offset += fill) {
+            Node node = new Node(chunkCapacity);
+            node.size = Math.min(fill, size - offset);
+            System.arraycopy(elements, offset, node.elements, 0, node.size);
+            if (nodeCount > 0) {
+                nodes[nodeCount - 1].next = node;
+            }
+            nodes[nodeCount] = node;
+            offsets[nodeCount] = offset;
+            nodeCount++;
+        }
+    }
+
+    private class ChunkIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private Node node;
+        private int offset;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            if (node == null || offset == node.size) {
+                int position = nodePosition(cursor);
+                node = nodes[position];
+                offset = cursor - offsets[position];
+            }
+            lastReturned = cursor++;
+            return (T) node.elements[offset++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            UnrolledLinkedList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            node = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ChunkSpliterator implements Spliterator<T> {
+        private final int fence;
+        private final int expectedModCount;
+        private int index;
+
+        ChunkSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return;
+            }
+            checkForComodification();
+            int position = nodePosition(index);
+            Node node = nodes[position];
+            int offset = index - offsets[position];
+            while (index < fence) {
+                if (offset == node.size) {
+                    node = node.next;
+                    offset = 0;
+                }
+                action.accept((T) node.elements[offset++]);
+                index++;
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new ChunkSpliterator(index, middle, expectedModCount);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private static class Node {
+        private final Object[] elements;
+        private int size;
+        private Node next;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+}
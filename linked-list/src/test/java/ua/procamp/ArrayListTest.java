@@ -0,0 +1,63 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public class ArrayListTest extends LinkedListTest {
+
+    @Override
+    protected <T> List<T> createList() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> listOf(T... elements) {
+        return ArrayList.of(elements);
+    }
+
+    @Test
+    public void testAddBeyondInitialCapacity() {
+        List<Integer> list = new ArrayList<>(2);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0).intValue());
+        assertEquals(99, list.get(99).intValue());
+    }
+
+    @Test
+    public void testAddByIndexBeyondInitialCapacity() {
+        List<Integer> list = new ArrayList<>(0);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(99, list.get(0).intValue());
+        assertEquals(0, list.get(99).intValue());
+    }
+
+    @Test
+    public void testOfDoesNotShareArray() {
+        Integer[] elements = {1, 2, 3};
+        List<Integer> list = ArrayList.of(elements);
+
+        elements[0] = 100;
+
+        assertEquals(1, list.get(0).intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeInitialCapacity() {
+        new ArrayList<>(-1);
+    }
+}
@@ -0,0 +1,57 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class DoubleListTest {
+
+    private DoubleList doubleList = new DoubleList();
+
+    @Test
+    public void testAddAndGet() {
+        doubleList.add(2.5);
+        doubleList.add(0, -1.5);
+
+        assertEquals(2, doubleList.size());
+        assertEquals(-1.5, doubleList.get(0), 0);
+        assertEquals(2.5, doubleList.get(1), 0);
+    }
+
+    @Test
+    public void testContainsNaN() {
+        doubleList = DoubleList.of(1.0, Double.NaN);
+
+        assertTrue(doubleList.contains(Double.NaN));
+    }
+
+    @Test
+    public void testContainsDistinguishesZeroSigns() {
+        doubleList = DoubleList.of(0.0);
+
+        assertTrue(doubleList.contains(0.0));
+        assertFalse(doubleList.contains(-0.0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveElementFromEmptyList() {
+        doubleList.remove(0);
+    }
+
+    @Test
+    public void testAddAllAndIterator() {
+        doubleList.addAll(new double[]{0.5, 0.25});
+
+        PrimitiveIterator.OfDouble iterator = doubleList.iterator();
+
+        assertEquals(0.5, iterator.nextDouble(), 0);
+        assertEquals(0.25, iterator.nextDouble(), 0);
+        assertFalse(iterator.hasNext());
+        assertArrayEquals(new double[]{0.5, 0.25}, doubleList.toArray(), 0);
+    }
+}
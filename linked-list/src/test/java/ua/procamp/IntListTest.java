@@ -0,0 +1,177 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class IntListTest {
+
+    private IntList intList = new IntList();
+
+    @Test
+    public void testAddIntoEmptyList() {
+        intList.add(41);
+
+        assertEquals(1, intList.size());
+        assertEquals(41, intList.get(0));
+    }
+
+    @Test
+    public void testOf() {
+        intList = IntList.of(43, 233, 54);
+
+        assertEquals(3, intList.size());
+        assertEquals(43, intList.get(0));
+        assertEquals(233, intList.get(1));
+        assertEquals(54, intList.get(2));
+    }
+
+    @Test
+    public void testAddBeyondInitialCapacity() {
+        intList = new IntList(2);
+
+        for (int i = 0; i < 100; i++) {
+            intList.add(i);
+        }
+
+        assertEquals(100, intList.size());
+        assertEquals(99, intList.get(99));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetFirstElementFromEmptyList() {
+        intList.get(0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementByNegativeIndex() {
+        intList.get(-1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementByIndexEqualsToListSize() {
+        intList = IntList.of(33, 46, 25, 87, 45);
+
+        intList.get(5);
+    }
+
+    @Test
+    public void testAddElementByIndex() {
+        intList = IntList.of(43, 5, 6, 8);
+
+        intList.add(0, 1);
+        intList.add(3, 66);
+        intList.add(intList.size(), 99);
+
+        assertArrayEquals(new int[]{1, 43, 5, 66, 6, 8, 99}, intList.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddElementByIndexLargerThanListSize() {
+        intList = IntList.of(4, 6, 11, 9);
+
+        intList.add(5, 88);
+    }
+
+    @Test
+    public void testSetElementByIndex() {
+        intList = IntList.of(34, 78, 9, 8);
+
+        intList.set(2, 99);
+
+        assertArrayEquals(new int[]{34, 78, 99, 8}, intList.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetElementByIndexEqualToSize() {
+        intList = IntList.of(2, 3, 4);
+
+        intList.set(3, 222);
+    }
+
+    @Test
+    public void testRemoveElement() {
+        intList = IntList.of(1, 2, 3, 4, 5);
+
+        intList.remove(0);
+        intList.remove(1);
+        intList.remove(intList.size() - 1);
+
+        assertArrayEquals(new int[]{2, 4}, intList.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveElementFromEmptyList() {
+        intList.remove(0);
+    }
+
+    @Test
+    public void testContains() {
+        intList = IntList.of(45, 6, 3, 6);
+
+        assertTrue(intList.contains(3));
+        assertFalse(intList.contains(54));
+    }
+
+    @Test
+    public void testAddAll() {
+        intList = IntList.of(1, 2);
+
+        intList.addAll(new int[]{3, 4, 5});
+        intList.addAll(new int[0]);
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, intList.toArray());
+    }
+
+    @Test
+    public void testToArrayIsACopy() {
+        intList = IntList.of(1, 2, 3);
+
+        int[] array = intList.toArray();
+        array[0] = 100;
+
+        assertEquals(1, intList.get(0));
+    }
+
+    @Test
+    public void testIterator() {
+        intList = IntList.of(4, 5, 6);
+
+        PrimitiveIterator.OfInt iterator = intList.iterator();
+
+        assertEquals(4, iterator.nextInt());
+        assertEquals(5, iterator.nextInt());
+        assertEquals(6, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorOnEmptyList() {
+        intList.iterator().nextInt();
+    }
+
+    @Test
+    public void testClear() {
+        intList = IntList.of(4, 5, 6);
+
+        intList.clear();
+
+        assertTrue(intList.isEmpty());
+        assertEquals(0, intList.size());
+        assertFalse(intList.contains(4));
+    }
+
+    @Test
+    public void testStream() {
+        intList = IntList.of(1, 2, 3, 4);
+
+        assertEquals(10, intList.stream().sum());
+        assertEquals(10, intList.stream().parallel().sum());
+    }
+}
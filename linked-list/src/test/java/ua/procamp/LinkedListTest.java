@@ -4,12 +4,32 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.Assert.*;
 
 @RunWith(JUnit4.class)
 public class LinkedListTest {
 
-    private List<Integer> intList = new LinkedList<>();
+    private List<Integer> intList = createList();
+
+    protected <T> List<T> createList() {
+        return new LinkedList<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> listOf(T... elements) {
+        return LinkedList.of(elements);
+    }
 
     @Test
     public void testAddIntoEmptyList() {
@@ -30,7 +50,7 @@ public class LinkedListTest {
 
     @Test
     public void testAddElements() {
-        intList = LinkedList.of(43, 233, 54);
+        intList = listOf(43, 233, 54);
 
         assertEquals(3, intList.size());
         assertEquals(43, intList.get(0).intValue());
@@ -41,7 +61,7 @@ public class LinkedListTest {
 
     @Test
     public void testGetElements() {
-        intList = LinkedList.of(25, 87, 45);
+        intList = listOf(25, 87, 45);
 
         int firstElement = intList.get(0);
         int secondElement = intList.get(1);
@@ -57,6 +77,17 @@ public class LinkedListTest {
         intList.get(0);
     }
 
+    @Test
+    public void testIndexOutOfBoundsMessages() {
+        intList = listOf(33, 46, 25);
+
+        assertIndexOutOfBounds("Index: 3, Size: 3", () -> intList.get(3));
+        assertIndexOutOfBounds("Index: -1, Size: 3", () -> intList.set(-1, 1));
+        assertIndexOutOfBounds("Index: 3, Size: 3", () -> intList.remove(3));
+        assertIndexOutOfBounds("Index: 4, Size: 3", () -> intList.add(4, 1));
+        assertIndexOutOfBounds("Index: -1, Size: 3", () -> intList.addAll(-1, Arrays.asList(1, 2)));
+    }
+
     @Test(expected = IndexOutOfBoundsException.class)
     public void testGetElementByNegativeIndex() {
         intList.get(-1);
@@ -64,7 +95,7 @@ public class LinkedListTest {
 
     @Test(expected = IndexOutOfBoundsException.class)
     public void testGetElementByIndexEqualsToListSize() {
-        intList = LinkedList.of(33, 46, 25, 87, 45);
+        intList = listOf(33, 46, 25, 87, 45);
 
         intList.get(5);
     }
@@ -79,7 +110,7 @@ public class LinkedListTest {
 
     @Test
     public void testAddElementByIndexToTheEndOfList() {
-        intList = LinkedList.of(98, 64, 23, 1, 3, 4);
+        intList = listOf(98, 64, 23, 1, 3, 4);
 
         int newElementIndex = intList.size();
         intList.add(newElementIndex, 44);
@@ -90,7 +121,7 @@ public class LinkedListTest {
 
     @Test
     public void testAddElementToTheHeadOfNonEmptyList() {
-        intList = LinkedList.of(4, 6, 8, 9, 0, 2);
+        intList = listOf(4, 6, 8, 9, 0, 2);
 
         intList.add(0, 53);
 
@@ -101,7 +132,7 @@ public class LinkedListTest {
 
     @Test
     public void testAddElementByIndex() {
-        intList = LinkedList.of(43, 5, 6, 8);
+        intList = listOf(43, 5, 6, 8);
 
         int newElementIdx = 2;
         intList.add(newElementIdx, 66);
@@ -121,7 +152,7 @@ public class LinkedListTest {
 
     @Test(expected = IndexOutOfBoundsException.class)
     public void testAddElementByIndexLargerThanListSize() {
-        intList = LinkedList.of(4, 6, 11, 9);
+        intList = listOf(4, 6, 11, 9);
 
         int newElementIdx = 5;
         intList.add(newElementIdx, 88);
@@ -129,7 +160,7 @@ public class LinkedListTest {
 
     @Test
     public void testAddElementByIndexEqualToSize() {
-        intList = LinkedList.of(1, 2, 3, 4, 5); // size = 5
+        intList = listOf(1, 2, 3, 4, 5); // size = 5
 
         intList.add(5, 111);
 
@@ -144,14 +175,14 @@ public class LinkedListTest {
 
     @Test(expected = IndexOutOfBoundsException.class)
     public void testSetElementByIndexEqualToSize() {
-        intList = LinkedList.of(2, 3, 4); // size = 3
+        intList = listOf(2, 3, 4); // size = 3
 
         intList.set(3, 222);
     }
 
     @Test
     public void testSetElementByIndex() {
-        intList = LinkedList.of(34, 78, 9, 8);
+        intList = listOf(34, 78, 9, 8);
 
         int index = 2; //element = 78
         intList.set(index, 99);
@@ -171,7 +202,7 @@ public class LinkedListTest {
 
     @Test
     public void testRemoveFirstElement() {
-        intList = LinkedList.of(4, 6, 8, 9);
+        intList = listOf(4, 6, 8, 9);
 
         intList.remove(0);
 
@@ -181,7 +212,7 @@ public class LinkedListTest {
 
     @Test
     public void testRemoveLastElement() {
-        intList = LinkedList.of(4, 6, 8, 9);
+        intList = listOf(4, 6, 8, 9);
 
         intList.remove(intList.size() - 1);
 
@@ -191,7 +222,7 @@ public class LinkedListTest {
 
     @Test
     public void testRemoveElement() {
-        intList = LinkedList.of(1, 2, 3, 4, 5);
+        intList = listOf(1, 2, 3, 4, 5);
 
         int elementIndex = 2;
         intList.remove(elementIndex); // element = 3
@@ -209,7 +240,7 @@ public class LinkedListTest {
 
     @Test
     public void testContains() {
-        intList = LinkedList.of(45, 6, 3, 6);
+        intList = listOf(45, 6, 3, 6);
 
         boolean containsExistingElement = intList.contains(3);
         boolean containsNotExistingElement = intList.contains(54);
@@ -227,7 +258,7 @@ public class LinkedListTest {
 
     @Test
     public void testIsEmpty() {
-        intList = LinkedList.of(34, 5, 6);
+        intList = listOf(34, 5, 6);
 
         boolean empty = intList.isEmpty();
 
@@ -243,7 +274,7 @@ public class LinkedListTest {
 
     @Test
     public void testSize() {
-        intList = LinkedList.of(4, 7, 9, 0, 7);
+        intList = listOf(4, 7, 9, 0, 7);
 
         int size = intList.size();
 
@@ -259,7 +290,7 @@ public class LinkedListTest {
 
     @Test
     public void testClearChangesTheSize() {
-        intList = LinkedList.of(4, 5, 6);
+        intList = listOf(4, 5, 6);
 
         intList.clear();
 
@@ -268,11 +299,322 @@ public class LinkedListTest {
 
     @Test(expected = IndexOutOfBoundsException.class)
     public void testClearRemovesElements() {
-        intList = LinkedList.of(4, 5, 6);
+        intList = listOf(4, 5, 6);
 
         intList.clear();
         intList.get(0);
     }
 
+    @Test
+    public void testIteratorReturnsElementsInOrder() {
+        intList = listOf(4, 5, 6);
+
+        Iterator<Integer> iterator = intList.iterator();
+
+        assertEquals(4, iterator.next().intValue());
+        assertEquals(5, iterator.next().intValue());
+        assertEquals(6, iterator.next().intValue());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorOnEmptyList() {
+        intList.iterator().next();
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        intList = listOf(1, 2, 3, 4, 5);
+
+        for (Iterator<Integer> iterator = intList.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(2, intList.size());
+        assertEquals(2, intList.get(0).intValue());
+        assertEquals(4, intList.get(1).intValue());
+    }
+
+    @Test
+    public void testIteratorRemoveAllElements() {
+        intList = listOf(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        intList.add(7);
+
+        assertEquals(1, intList.size());
+        assertEquals(7, intList.get(0).intValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveBeforeNext() {
+        intList = listOf(1, 2, 3);
+
+        intList.iterator().remove();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveTwice() {
+        intList = listOf(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        iterator.remove();
+        iterator.remove();
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailsOnModification() {
+        intList = listOf(1, 2, 3);
+
+        for (Integer element : intList) {
+            if (element == 2) {
+                intList.add(4);
+            }
+        }
+    }
 
+    @Test(expected = ConcurrentModificationException.class)
+    public void testForEachFailsOnModification() {
+        intList = listOf(1, 2, 3);
+
+        intList.forEach(element -> intList.remove(0));
+    }
+
+    @Test
+    public void testForEach() {
+        intList = listOf(1, 2, 3);
+
+        StringBuilder builder = new StringBuilder();
+        intList.forEach(builder::append);
+
+        assertEquals("123", builder.toString());
+    }
+
+    @Test
+    public void testSpliteratorIsSized() {
+        intList = listOf(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testStream() {
+        intList = listOf(1, 2, 3, 4);
+
+        String joined = intList.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        assertEquals("1,2,3,4", joined);
+    }
+
+    @Test
+    public void testParallelStreamKeepsOrder() {
+        intList = listOf(IntStream.range(0, 100_000).boxed().toArray(Integer[]::new));
+
+        java.util.List<Integer> collected = intList.parallelStream().collect(Collectors.toList());
+
+        assertEquals(100_000, collected.size());
+        for (int i = 0; i < collected.size(); i++) {
+            assertEquals(i, collected.get(i).intValue());
+        }
+        assertEquals(100_000L * 99_999 / 2, intList.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void testAddAllToEmptyList() {
+        intList.addAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(3, intList.size());
+        assertEquals("1,2,3", join(intList));
+    }
+
+    @Test
+    public void testAddAllAtStartMiddleAndEnd() {
+        intList = listOf(1, 5);
+
+        intList.addAll(0, Arrays.asList(-1, 0));
+        intList.addAll(3, Arrays.asList(2, 3, 4));
+        intList.addAll(Arrays.asList(6, 7));
+
+        assertEquals(9, intList.size());
+        assertEquals("-1,0,1,2,3,4,5,6,7", join(intList));
+    }
+
+    @Test
+    public void testAddAllThenAdd() {
+        intList = listOf(1, 2);
+
+        intList.addAll(Arrays.asList(3, 4));
+        intList.add(5);
+
+        assertEquals("1,2,3,4,5", join(intList));
+    }
+
+    @Test
+    public void testAddAllEmptyCollection() {
+        intList = listOf(1, 2);
+
+        intList.addAll(1, Collections.emptyList());
+
+        assertEquals("1,2", join(intList));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAllByIndexLargerThanSize() {
+        intList = listOf(1, 2);
+
+        intList.addAll(3, Arrays.asList(3, 4));
+    }
+
+    @Test
+    public void testRemoveIf() {
+        intList = listOf(1, 2, 3, 4, 5, 6);
+
+        boolean removed = intList.removeIf(i -> i % 2 == 0);
+
+        assertTrue(removed);
+        assertEquals(3, intList.size());
+        assertEquals("1,3,5", join(intList));
+    }
+
+    @Test
+    public void testRemoveIfHeadAndTailThenAdd() {
+        intList = listOf(1, 2, 3, 4);
+
+        intList.removeIf(i -> i == 1 || i == 4);
+        intList.add(5);
+
+        assertEquals("2,3,5", join(intList));
+    }
+
+    @Test
+    public void testRemoveIfAllThenAdd() {
+        intList = listOf(1, 2, 3);
+
+        intList.removeIf(i -> true);
+        intList.add(4);
+
+        assertEquals(1, intList.size());
+        assertEquals("4", join(intList));
+    }
+
+    @Test
+    public void testRemoveIfNothing() {
+        intList = listOf(1, 2, 3);
+
+        assertFalse(intList.removeIf(i -> i > 3));
+        assertEquals("1,2,3", join(intList));
+    }
+
+    @Test
+    public void testReplaceAll() {
+        intList = listOf(1, 2, 3);
+
+        intList.replaceAll(i -> i * 10);
+
+        assertEquals("10,20,30", join(intList));
+    }
+
+    @Test
+    public void testSortIsStable() {
+        List<String> list = listOf("ccc", "a", "bb", "b", "aaa", "c", "aa");
+
+        list.sort(Comparator.comparingInt(String::length));
+
+        assertEquals("a,b,c,bb,aa,ccc,aaa", join(list));
+    }
+
+    @Test
+    public void testSortInNaturalOrderThenAdd() {
+        intList = listOf(3, 1, 2);
+
+        intList.sort(null);
+        intList.add(4);
+
+        assertEquals("1,2,3,4", join(intList));
+    }
+
+    @Test
+    public void testSortEmptyAndSingleElementList() {
+        intList.sort(null);
+        assertEquals(0, intList.size());
+
+        intList = listOf(1);
+        intList.sort(null);
+        assertEquals("1", join(intList));
+    }
+
+    @Test
+    public void testSortLargeList() {
+        Integer[] elements = new Random(42).ints(10_000, 0, 1_000).boxed().toArray(Integer[]::new);
+        intList = listOf(elements.clone());
+
+        intList.sort(Comparator.reverseOrder());
+        Arrays.sort(elements, Comparator.reverseOrder());
+
+        assertEquals(Arrays.asList(elements), intList.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSortKeepsElementsWhenComparatorFails() {
+        intList = listOf(5, 4, 3, 2, 1);
+
+        try {
+            intList.sort((a, b) -> {
+                if (a == 1 || b == 1) {
+                    throw new IllegalStateException();
+                }
+                return Integer.compare(a, b);
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(5, intList.size());
+            assertEquals(15, intList.stream().mapToInt(Integer::intValue).sum());
+        }
+        intList.add(6);
+        assertEquals(6, intList.get(5).intValue());
+    }
+
+    @Test
+    public void testSortKeepsElementsWhenComparatorThrowsError() {
+        intList = listOf(5, 4, 3, 2, 1);
+
+        try {
+            intList.sort((a, b) -> {
+                if (a == 1 || b == 1) {
+                    throw new StackOverflowError();
+                }
+                return Integer.compare(a, b);
+            });
+            fail();
+        } catch (StackOverflowError e) {
+            assertEquals(5, intList.size());
+            assertEquals(15, intList.stream().mapToInt(Integer::intValue).sum());
+        }
+        intList.add(6);
+        assertEquals(6, intList.get(5).intValue());
+    }
+
+    private static void assertIndexOutOfBounds(String message, Runnable action) {
+        try {
+            action.run();
+            fail("Should throw exception");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private static String join(List<?> list) {
+        return list.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
 }
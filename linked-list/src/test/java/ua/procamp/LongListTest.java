@@ -0,0 +1,55 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class LongListTest {
+
+    private LongList longList = new LongList();
+
+    @Test
+    public void testAddAndGet() {
+        longList.add(Long.MAX_VALUE);
+        longList.add(0, Long.MIN_VALUE);
+
+        assertEquals(2, longList.size());
+        assertEquals(Long.MIN_VALUE, longList.get(0));
+        assertEquals(Long.MAX_VALUE, longList.get(1));
+    }
+
+    @Test
+    public void testSetRemoveAndContains() {
+        longList = LongList.of(1L, 2L, 3L);
+
+        longList.set(0, 10L);
+        longList.remove(1);
+
+        assertArrayEquals(new long[]{10L, 3L}, longList.toArray());
+        assertTrue(longList.contains(3L));
+        assertFalse(longList.contains(2L));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementByIndexEqualsToListSize() {
+        longList = LongList.of(1L, 2L);
+
+        longList.get(2);
+    }
+
+    @Test
+    public void testAddAllAndIterator() {
+        longList.addAll(new long[]{7L, 8L});
+
+        PrimitiveIterator.OfLong iterator = longList.iterator();
+
+        assertEquals(7L, iterator.nextLong());
+        assertEquals(8L, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+    }
+}
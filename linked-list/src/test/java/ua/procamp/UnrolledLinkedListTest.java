@@ -0,0 +1,122 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class UnrolledLinkedListTest extends LinkedListTest {
+
+    @Override
+    protected <T> List<T> createList() {
+        return new UnrolledLinkedList<>();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> listOf(T... elements) {
+        return UnrolledLinkedList.of(elements);
+    }
+
+    @Test
+    public void testAddManyElements() {
+        List<Integer> list = new UnrolledLinkedList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100_000, list.size());
+        for (int i = 0; i < 100_000; i += 97) {
+            assertEquals(i, list.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(42);
+        List<Integer> list = new UnrolledLinkedList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            }
+        }
+        while (expected.size() > 10) {
+            int index = random.nextInt(expected.size());
+            list.remove(index);
+            expected.remove(index);
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testContainsAfterRemovals() {
+        List<Integer> list = new UnrolledLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        for (int i = 999; i > 0; i--) {
+            list.remove(0);
+        }
+
+        assertEquals(1, list.size());
+        assertEquals(true, list.contains(999));
+        assertEquals(false, list.contains(0));
+    }
+
+    /**
+     * Splits the last node, fills its upper half, so the lower half cannot be merged with it, and then shrinks the lower
+     * half to a single element. Without repacking, every round leaves one more almost empty node.
+     */
+    @Test
+    public void testNodeCountStaysBoundedWhenSplitNodesShrink() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+
+        for (int round = 0; round < 5_000; round++) {
+            int chunkCapacity = list.chunkCapacity();
+            int nodeCount = list.nodeCount();
+            int added = 0;
+            for (; list.nodeCount() == nodeCount; added++) {
+                list.add(list.size(), round);
+            }
+            for (int i = 1; i < chunkCapacity / 2; i++, added++) {
+                list.add(list.size(), round);
+            }
+            for (int i = 1; i < chunkCapacity / 2; i++, added--) {
+                list.remove(list.size() - chunkCapacity - 2);
+            }
+            for (; added > 0; added--) {
+                list.remove(0);
+            }
+
+            assertEquals(10_000, list.size());
+            assertTrue(list.nodeCount() <= 2 * list.size() / list.chunkCapacity() + 1);
+        }
+    }
+}
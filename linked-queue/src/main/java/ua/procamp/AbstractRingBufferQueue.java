@@ -0,0 +1,138 @@
+package ua.procamp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A base of array-based {@link BoundedQueue} implementations with a single consumer. Elements are stored in a ring
+ * buffer, which length is a power of two, so a position in the array is a sequence number masked by
+ * {@code capacity - 1}. The producer and the consumer sequences are kept in {@link PaddedSequence}s, and only grow.
+ * <p>
+ * A producer publishes an element with a release write into its slot, and the consumer treats an empty slot as the end
+ * of the queue, so the consumer never reads the producer sequence on the fast path. The consumer clears a slot before
+ * it moves its sequence, which lets producers reuse the slot. Nodes are not allocated, so steady-state
+ * {@link BoundedQueue#offer(Object)} and {@link Queue#poll()} do not allocate at all.
+ *
+ * @param <T> a generic parameter
+ */
+abstract class AbstractRingBufferQueue<T> implements BoundedQueue<T> {
+    static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    final Object[] buffer;
+    final int mask;
+    final PaddedSequence producer = new PaddedSequence();
+    final PaddedSequence consumer = new PaddedSequence();
+
+    AbstractRingBufferQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Capacity %d is out of range [1, %d]",
+                    capacity, MAX_CAPACITY));
+        }
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        buffer = new Object[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Throws {@link IllegalStateException} if the queue is full, and
+     * {@link NullPointerException} if the element is {@code null}.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException(String.format("Queue is full, capacity: %d", buffer.length));
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head. Only one thread may poll the queue.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long index = consumer.getPlain();
+        int offset = (int) index & mask;
+        Object element = ELEMENTS.getAcquire(buffer, offset);
+        if (element == null) {
+            if (index == producer.getAcquire()) {
+                return null;
+            }
+            // a producer has claimed the slot, but has not written the element yet
+            do {
+                Thread.onSpinWait();
+                element = ELEMENTS.getAcquire(buffer, offset);
+            } while (element == null);
+        }
+        buffer[offset] = null;
+        consumer.setRelease(index + 1);
+        return (T) element;
+    }
+
+    /**
+     * Retrieves and removes up to {@code limit} elements, and moves the consumer sequence once. Stops at the first slot
+     * that is not written yet. Only one thread may drain the queue.
+     *
+     * @param action an action to perform on every removed element
+     * @param limit  a maximum number of elements to remove
+     * @return a number of removed elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> action, int limit) {
+        Objects.requireNonNull(action);
+        long index = consumer.getPlain();
+        int drained = 0;
+        try {
+            while (drained < limit) {
+                int offset = (int) (index + drained) & mask;
+                Object element = ELEMENTS.getAcquire(buffer, offset);
+                if (element == null) {
+                    break;
+                }
+                buffer[offset] = null;
+                drained++;
+                action.accept((T) element);
+            }
+        } finally {
+            consumer.setRelease(index + drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns a size of the queue. While other threads add or poll elements, the size is an estimate.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long consumed = consumer.getAcquire();
+        long produced = producer.getAcquire();
+        return (int) Math.max(0, Math.min(produced - consumed, buffer.length));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return consumer.getAcquire() >= producer.getAcquire();
+    }
+
+    @Override
+    public int capacity() {
+        return buffer.length;
+    }
+}
@@ -0,0 +1,144 @@
+package ua.procamp;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * {@link BlockingBoundedQueue} adds waiting operations to any {@link BoundedQueue}. Elements are stored in the wrapped
+ * queue, so its capacity limits producers, and its thread-safety rules apply: for example, a wrapped
+ * {@link MpscArrayQueue} may be taken from by a single thread only. A thread that cannot add or poll an element waits
+ * with provided {@link WaitStrategy}, and every successful operation signals the strategy, so waiting threads check the
+ * queue again.
+ *
+ * @param <T> a generic parameter
+ */
+public class BlockingBoundedQueue<T> implements BlockingQueue<T> {
+    private final BoundedQueue<T> queue;
+    private final WaitStrategy waitStrategy;
+    private final BooleanSupplier notEmpty;
+    private final BooleanSupplier notFull;
+
+    /**
+     * Creates a wrapper of provided queue, that parks waiting threads. The queue must not be accessed directly after it
+     * is wrapped.
+     *
+     * @param queue a queue to wrap
+     */
+    public BlockingBoundedQueue(BoundedQueue<T> queue) {
+        this(queue, new ParkingWaitStrategy());
+    }
+
+    /**
+     * Creates a wrapper of provided queue. The queue must not be accessed directly after it is wrapped.
+     *
+     * @param queue        a queue to wrap
+     * @param waitStrategy a strategy of waiting for free space and for elements
+     */
+    public BlockingBoundedQueue(BoundedQueue<T> queue, WaitStrategy waitStrategy) {
+        this.queue = Objects.requireNonNull(queue);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        this.notEmpty = () -> !queue.isEmpty();
+        this.notFull = () -> queue.size() < queue.capacity();
+    }
+
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException(String.format("Queue is full, capacity: %d", capacity()));
+        }
+    }
+
+    @Override
+    public boolean offer(T element) {
+        if (queue.offer(element)) {
+            waitStrategy.signalAll();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int offerAll(T[] elements) {
+        int added = queue.offerAll(elements);
+        if (added > 0) {
+            waitStrategy.signalAll();
+        }
+        return added;
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        while (!offer(element)) {
+            waitStrategy.await(notFull, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(element)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !waitStrategy.await(notFull, remaining)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        T element = queue.poll();
+        if (element != null) {
+            waitStrategy.signalAll();
+        }
+        return element;
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        T element;
+        while ((element = poll()) == null) {
+            waitStrategy.await(notEmpty, Long.MAX_VALUE);
+        }
+        return element;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        T element;
+        while ((element = poll()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !waitStrategy.await(notEmpty, remaining)) {
+                return null;
+            }
+        }
+        return element;
+    }
+
+    @Override
+    public int drain(Consumer<? super T> action, int limit) {
+        int drained = queue.drain(action, limit);
+        if (drained > 0) {
+            waitStrategy.signalAll();
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int capacity() {
+        return queue.capacity();
+    }
+}
@@ -0,0 +1,50 @@
+package ua.procamp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlockingQueue} is a {@link BoundedQueue} with operations that wait: {@link BlockingQueue#put(Object)} waits
+ * for free space and {@link BlockingQueue#take()} waits for an element, so a full queue slows producers down instead of
+ * growing, and an empty queue lets consumers wait instead of polling in a loop. How threads wait is decided by a
+ * {@link WaitStrategy}.
+ *
+ * @param <T> a generic parameter
+ */
+public interface BlockingQueue<T> extends BoundedQueue<T> {
+    /**
+     * Adds an element to the end of the queue, waiting for free space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting for an element if the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the timeout for free space if the queue is full.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting up to the timeout for an element if the queue is empty.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the timeout elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,44 @@
+package ua.procamp;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link BoundedQueue} is a FIFO {@link Queue} with a fixed capacity. {@link BoundedQueue#add(Object)} throws
+ * {@link IllegalStateException} when the queue is full, while {@link BoundedQueue#offer(Object)} reports it with a
+ * return value. Batch operations move many elements with a single update of the queue position.
+ *
+ * @param <T> a generic parameter
+ */
+public interface BoundedQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue if there is free space.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    boolean offer(T element);
+
+    /**
+     * Adds elements of the array to the end of the queue in the array order, while there is free space.
+     *
+     * @param elements elements to add
+     * @return a number of added elements, that were taken from the beginning of the array
+     */
+    int offerAll(T[] elements);
+
+    /**
+     * Retrieves and removes up to {@code limit} elements from the head of the queue and passes them to the action.
+     *
+     * @param action an action to perform on every removed element
+     * @param limit  a maximum number of elements to remove
+     * @return a number of removed elements
+     */
+    int drain(Consumer<? super T> action, int limit);
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    int capacity();
+}
@@ -0,0 +1,321 @@
+package ua.procamp;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link HeapPriorityQueue} is a {@link Queue}, that retrieves the smallest element first according to a
+ * {@link Comparator}, instead of the oldest one. Elements are kept in an implicit d-ary heap in a growable array: the
+ * children of an element at index {@code i} are at indices {@code d * i + 1} to {@code d * i + d}. So
+ * {@link HeapPriorityQueue#add(Object)} and {@link HeapPriorityQueue#poll()} take {@code O(log n)} time, and
+ * {@link HeapPriorityQueue#from(Collection, int, Comparator)} builds a heap from a collection in {@code O(n)} time.
+ * <p>
+ * A larger arity makes the heap shallower, so a sift visits fewer levels, and children of an element are adjacent in
+ * memory, so they are compared without extra cache misses. A smaller arity does fewer comparisons on every level. The
+ * default arity is 4.
+ * <p>
+ * An element added with {@link HeapPriorityQueue#addWithHandle(Object)} can later change its priority through the
+ * returned {@link Handle}. Handles are tracked in an array that is allocated on the first such call, so a queue that
+ * does not use handles does not pay for them. {@code null} elements are not permitted.
+ *
+ * @param <T> a generic parameter
+ */
+public class HeapPriorityQueue<T> implements Queue<T> {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private Object[] elements;
+    private Handle<?>[] handles;
+    private int size;
+
+    /**
+     * Creates an empty queue of 4-ary heap, that orders elements by provided comparator. A {@code null} comparator
+     * orders elements in their natural order.
+     *
+     * @param comparator a comparator or {@code null}
+     */
+    public HeapPriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Creates an empty queue of d-ary heap, that orders elements by provided comparator. A {@code null} comparator
+     * orders elements in their natural order. Throws {@link IllegalArgumentException} if arity is less than 2.
+     *
+     * @param arity      a number of children of every heap node
+     * @param comparator a comparator or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public HeapPriorityQueue(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException(String.format("Arity must be at least 2: %d", arity));
+        }
+        this.arity = arity;
+        this.comparator = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a queue of provided elements. The heap is built bottom-up, which takes {@code O(n)} time instead of
+     * {@code O(n log n)} for adding elements one by one.
+     *
+     * @param elements   elements to add
+     * @param arity      a number of children of every heap node
+     * @param comparator a comparator or {@code null}
+     * @param <T>        generic type
+     * @return a new queue of provided elements
+     */
+    public static <T> HeapPriorityQueue<T> from(Collection<? extends T> elements, int arity,
+                                                Comparator<? super T> comparator) {
+        HeapPriorityQueue<T> queue = new HeapPriorityQueue<>(arity, comparator);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            Objects.requireNonNull(element);
+        }
+        queue.elements = array.length > 0 ? array : queue.elements;
+        queue.size = array.length;
+        if (queue.size > 1) {
+            for (int i = queue.parent(queue.size - 1); i >= 0; i--) {
+                queue.siftDown(i, queue.elements[i], null);
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Adds an element to the queue. Throws {@link NullPointerException} if the element is {@code null}.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        ensureCapacity();
+        siftUp(size++, element, null);
+    }
+
+    /**
+     * Adds an element to the queue, and returns a handle, that can change the element priority while it is in the
+     * queue.
+     *
+     * @param element the element to add
+     * @return a handle of the element
+     */
+    public Handle<T> addWithHandle(T element) {
+        Objects.requireNonNull(element);
+        ensureCapacity();
+        if (handles == null) {
+            handles = new Handle<?>[elements.length];
+        }
+        Handle<T> handle = new Handle<>(this);
+        siftUp(size++, element, handle);
+        return handle;
+    }
+
+    /**
+     * Retrieves and removes the smallest element.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T first = (T) elements[0];
+        if (handles != null && handles[0] != null) {
+            handles[0].index = -1;
+        }
+        int last = --size;
+        Object element = elements[last];
+        Handle<?> handle = handles != null ? handles[last] : null;
+        elements[last] = null;
+        if (handles != null) {
+            handles[last] = null;
+        }
+        if (last > 0) {
+            siftDown(0, element, handle);
+        }
+        return first;
+    }
+
+    /**
+     * Retrieves the smallest element without removing it.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return size == 0 ? null : (T) elements[0];
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of children of every heap node.
+     *
+     * @return the arity of the heap
+     */
+    public int arity() {
+        return arity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, Object element, Handle<?> handle) {
+        while (index > 0) {
+            int parent = parent(index);
+            if (comparator.compare((T) element, (T) elements[parent]) >= 0) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        place(index, element, handle);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, Object element, Handle<?> handle) {
+        while (true) {
+            long firstChild = (long) arity * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int first = (int) firstChild;
+            int end = (int) Math.min(firstChild + arity, size);
+            int smallest = first;
+            for (int child = first + 1; child < end; child++) {
+                if (comparator.compare((T) elements[child], (T) elements[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+            if (comparator.compare((T) elements[smallest], (T) element) >= 0) {
+                break;
+            }
+            move(smallest, index);
+            index = smallest;
+        }
+        place(index, element, handle);
+    }
+
+    private void move(int from, int to) {
+        elements[to] = elements[from];
+        if (handles != null) {
+            Handle<?> handle = handles[from];
+            handles[to] = handle;
+            if (handle != null) {
+                handle.index = to;
+            }
+        }
+    }
+
+    private void place(int index, Object element, Handle<?> handle) {
+        elements[index] = element;
+        if (handles != null) {
+            handles[index] = handle;
+            if (handle != null) {
+                handle.index = index;
+            }
+        }
+    }
+
+    private int parent(int index) {
+        return (index - 1) / arity;
+    }
+
+    private void ensureCapacity() {
+        if (size == elements.length) {
+            if (size == Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Queue is too large");
+            }
+            long grownCapacity = size + (long) (size >> 1);
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(DEFAULT_CAPACITY, grownCapacity));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+        if (handles != null && handles.length < elements.length) {
+            handles = Arrays.copyOf(handles, elements.length);
+        }
+    }
+
+    /**
+     * {@link Handle} refers to an element added with {@link HeapPriorityQueue#addWithHandle(Object)}, while the element
+     * is in the queue.
+     *
+     * @param <T> a generic parameter
+     */
+    public static final class Handle<T> {
+        private final HeapPriorityQueue<T> queue;
+        private int index;
+
+        private Handle(HeapPriorityQueue<T> queue) {
+            this.queue = queue;
+        }
+
+        /**
+         * Checks if the element is still in the queue.
+         *
+         * @return {@code true} if the element was not polled yet
+         */
+        public boolean isQueued() {
+            return index >= 0;
+        }
+
+        /**
+         * Returns the element. Throws {@link IllegalStateException} if the element was already polled.
+         *
+         * @return the element
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            checkQueued();
+            return (T) queue.elements[index];
+        }
+
+        /**
+         * Replaces the element with a new one, and moves it to a place that matches its new priority in
+         * {@code O(log n)} time. Decreasing a key is the common case, but the priority may change either way. Throws
+         * {@link IllegalStateException} if the element was already polled.
+         *
+         * @param element a new element
+         */
+        @SuppressWarnings("unchecked")
+        public void update(T element) {
+            Objects.requireNonNull(element);
+            checkQueued();
+            T previous = (T) queue.elements[index];
+            if (queue.comparator.compare(element, previous) < 0) {
+                queue.siftUp(index, element, this);
+            } else {
+                queue.siftDown(index, element, this);
+            }
+        }
+
+        private void checkQueued() {
+            if (index < 0) {
+                throw new IllegalStateException("Element is not in the queue");
+            }
+        }
+    }
+}
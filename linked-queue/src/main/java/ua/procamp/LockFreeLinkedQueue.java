@@ -0,0 +1,133 @@
+package ua.procamp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LockFreeLinkedQueue} implements FIFO {@link Queue}, that can be shared by any number of producer and consumer
+ * threads without locks. It is the Michael-Scott queue: singly linked nodes start from a dummy node, and
+ * {@link LockFreeLinkedQueue#add(Object)} and {@link LockFreeLinkedQueue#poll()} move the head and the tail with
+ * compare-and-set. The tail may lag one node behind the last node, and a thread that notices it helps to move the tail
+ * before doing its own operation, so a stalled thread never blocks others.
+ * <p>
+ * {@code null} elements are not permitted, because {@link LockFreeLinkedQueue#poll()} returns {@code null} for an
+ * empty queue. The size is kept in a striped {@link LongAdder}, so counting does not make threads contend on a single
+ * variable. {@link LockFreeLinkedQueue#size()} is exact when no operation is in progress, and is an estimate while other
+ * threads add or poll elements.
+ *
+ * @param <T> a generic parameter
+ */
+public class LockFreeLinkedQueue<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(LockFreeLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(LockFreeLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    private final LongAdder size = new LongAdder();
+
+    public LockFreeLinkedQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Throws {@link NullPointerException} if the element is {@code null}.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = new Node<>(element);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next != null) {
+                TAIL.compareAndSet(this, last, next);
+            } else if (NEXT.compareAndSet(last, null, node)) {
+                TAIL.compareAndSet(this, last, node);
+                break;
+            }
+        }
+        size.increment();
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            T element = next.value;
+            if (HEAD.compareAndSet(this, first, next)) {
+                next.value = null;
+                size.decrement();
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The size is exact when no other thread changes the queue, otherwise it is an
+     * estimate.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long sum = size.sum();
+        return (int) Math.max(0, Math.min(sum, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    private static class Node<T> {
+        private T value;
+        private volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
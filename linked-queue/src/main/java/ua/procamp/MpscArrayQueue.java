@@ -0,0 +1,57 @@
+package ua.procamp;
+
+import java.util.Objects;
+
+/**
+ * {@link MpscArrayQueue} is a bounded multi-producer single-consumer {@link BoundedQueue} on a ring buffer. Capacity is
+ * rounded up to a power of two. Producers claim slots by moving the producer sequence with compare-and-set, and then
+ * write elements into claimed slots, so the consumer may briefly wait for a producer that has claimed a slot but has not
+ * filled it yet. Only one thread may poll the queue. {@code null} elements are not permitted.
+ *
+ * @param <T> a generic parameter
+ */
+public class MpscArrayQueue<T> extends AbstractRingBufferQueue<T> {
+
+    /**
+     * Creates an empty queue. Throws {@link IllegalArgumentException} if capacity is not in range [1, 2^30].
+     *
+     * @param capacity a minimum capacity of the queue
+     */
+    public MpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long index;
+        do {
+            index = producer.getAcquire();
+            if (index - consumer.getAcquire() >= buffer.length) {
+                return false;
+            }
+        } while (!producer.compareAndSet(index, index + 1));
+        ELEMENTS.setRelease(buffer, (int) index & mask, element);
+        return true;
+    }
+
+    @Override
+    public int offerAll(T[] elements) {
+        for (T element : elements) {
+            Objects.requireNonNull(element);
+        }
+        long index;
+        int count;
+        do {
+            index = producer.getAcquire();
+            count = (int) Math.min(elements.length, buffer.length - (index - consumer.getAcquire()));
+            if (count <= 0) {
+                return 0;
+            }
+        } while (!producer.compareAndSet(index, index + count));
+        for (int i = 0; i < count; i++) {
+            ELEMENTS.setRelease(buffer, (int) (index + i) & mask, elements[i]);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,63 @@
+package ua.procamp;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link ParkingWaitStrategy} parks waiting threads on a {@link Condition} until they are signalled. It uses no CPU
+ * while waiting, and has the highest wake-up latency. {@link ParkingWaitStrategy#signalAll()} takes the lock only when
+ * some thread waits, so operations that do not wait only pay for a memory fence.
+ */
+public class ParkingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+        if (condition.getAsBoolean()) {
+            return true;
+        }
+        long nanos = timeoutNanos;
+        lock.lockInterruptibly();
+        try {
+            // a signaller changes the state before it reads waiters, and a waiter is counted before it checks the
+            // state, so one of them always sees the other
+            waiters.incrementAndGet();
+            try {
+                while (!condition.getAsBoolean()) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = nanos == Long.MAX_VALUE ? awaitForever() : changed.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        VarHandle.fullFence();
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private long awaitForever() throws InterruptedException {
+        changed.await();
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,39 @@
+package ua.procamp;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link SpinThenParkWaitStrategy} busy-spins for a number of checks first, and then parks like
+ * {@link ParkingWaitStrategy}. Short waits end without a context switch, while long waits do not keep a core busy.
+ */
+public class SpinThenParkWaitStrategy extends ParkingWaitStrategy {
+    private final int spins;
+
+    /**
+     * Creates a strategy. Throws {@link IllegalArgumentException} if the number of spins is negative.
+     *
+     * @param spins a number of checks before the thread parks
+     */
+    public SpinThenParkWaitStrategy(int spins) {
+        if (spins < 0) {
+            throw new IllegalArgumentException(String.format("Spins must not be negative: %d", spins));
+        }
+        this.spins = spins;
+    }
+
+    @Override
+    public boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+        long start = System.nanoTime();
+        for (int i = 0; i < spins; i++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread.onSpinWait();
+        }
+        long remaining = timeoutNanos == Long.MAX_VALUE ? timeoutNanos : timeoutNanos - (System.nanoTime() - start);
+        return super.await(condition, remaining);
+    }
+}
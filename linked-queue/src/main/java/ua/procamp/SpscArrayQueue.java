@@ -0,0 +1,62 @@
+package ua.procamp;
+
+import java.util.Objects;
+
+/**
+ * {@link SpscArrayQueue} is a bounded single-producer single-consumer {@link BoundedQueue} on a ring buffer. Capacity
+ * is rounded up to a power of two. The producer remembers the last consumer sequence it has seen, and reads the
+ * consumer sequence again only when the cached value says that the queue is full, so the producer and the consumer
+ * rarely touch the same cache line. Only one thread may add elements, and only one thread may poll them.
+ * {@code null} elements are not permitted.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscArrayQueue<T> extends AbstractRingBufferQueue<T> {
+    private long consumerLimit;
+
+    /**
+     * Creates an empty queue. Throws {@link IllegalArgumentException} if capacity is not in range [1, 2^30].
+     *
+     * @param capacity a minimum capacity of the queue
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long index = producer.getPlain();
+        if (index >= consumerLimit && !refreshLimit(index + 1)) {
+            return false;
+        }
+        ELEMENTS.setRelease(buffer, (int) index & mask, element);
+        producer.setRelease(index + 1);
+        return true;
+    }
+
+    @Override
+    public int offerAll(T[] elements) {
+        for (T element : elements) {
+            Objects.requireNonNull(element);
+        }
+        long index = producer.getPlain();
+        int count = elements.length;
+        if (index + count > consumerLimit && !refreshLimit(index + count)) {
+            count = (int) Math.max(0, consumerLimit - index);
+        }
+        for (int i = 0; i < count; i++) {
+            ELEMENTS.setRelease(buffer, (int) (index + i) & mask, elements[i]);
+        }
+        producer.setRelease(index + count);
+        return count;
+    }
+
+    /**
+     * Reads the consumer sequence and checks that the queue has room up to provided sequence.
+     */
+    private boolean refreshLimit(long sequence) {
+        consumerLimit = consumer.getAcquire() + buffer.length;
+        return sequence <= consumerLimit;
+    }
+}
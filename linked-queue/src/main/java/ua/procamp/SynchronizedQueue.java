@@ -0,0 +1,43 @@
+package ua.procamp;
+
+import java.util.Objects;
+
+/**
+ * {@link SynchronizedQueue} makes any {@link Queue} thread-safe by guarding every operation with the monitor of the
+ * wrapper. Only one thread works with the queue at a time, so under contention threads wait for each other; use
+ * {@link LockFreeLinkedQueue} when the queue is shared by many threads.
+ *
+ * @param <T> a generic parameter
+ */
+public class SynchronizedQueue<T> implements Queue<T> {
+    private final Queue<T> queue;
+
+    /**
+     * Creates a wrapper of provided queue. The queue must not be accessed directly after it is wrapped.
+     *
+     * @param queue a queue to wrap
+     */
+    public SynchronizedQueue(Queue<T> queue) {
+        this.queue = Objects.requireNonNull(queue);
+    }
+
+    @Override
+    public synchronized void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public synchronized T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package ua.procamp;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link WaitStrategy} decides how a thread waits for a state of a {@link BlockingQueue} to change. Parking frees the
+ * CPU but takes a few microseconds to wake up, spinning reacts at once but keeps a core busy, and yielding is in
+ * between. A strategy instance may keep the list of waiting threads, so every queue should have its own instance.
+ */
+public interface WaitStrategy {
+    /**
+     * Waits until the condition becomes {@code true}, or the timeout elapses. The condition may be checked many times,
+     * and may become {@code false} again right after this method returns.
+     *
+     * @param condition    a condition to wait for
+     * @param timeoutNanos a maximum time to wait in nanoseconds
+     * @return {@code true} if the condition is met, {@code false} if the timeout elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException;
+
+    /**
+     * Wakes up waiting threads after a state of the queue is changed. It is called on every successful operation, so
+     * it must be cheap when no thread waits.
+     */
+    void signalAll();
+}
@@ -0,0 +1,30 @@
+package ua.procamp;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link YieldingWaitStrategy} checks the condition in a loop and gives up the CPU with {@link Thread#yield()} between
+ * checks. It wakes up faster than parking, and lets other threads run on a busy core, but a waiting thread still uses
+ * CPU. {@link YieldingWaitStrategy#signalAll()} does nothing, so one instance can be shared by many queues.
+ */
+public class YieldingWaitStrategy implements WaitStrategy {
+
+    @Override
+    public boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (!condition.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (timeoutNanos != Long.MAX_VALUE && deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            Thread.yield();
+        }
+        return true;
+    }
+
+    @Override
+    public void signalAll() {
+    }
+}
@@ -0,0 +1,141 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class BlockingBoundedQueueTest extends SpscArrayQueueTest {
+    private static final List<Supplier<WaitStrategy>> WAIT_STRATEGIES = List.of(
+            ParkingWaitStrategy::new,
+            () -> new SpinThenParkWaitStrategy(100),
+            YieldingWaitStrategy::new);
+
+    @Override
+    protected <T> BoundedQueue<T> createQueue(int capacity) {
+        return new BlockingBoundedQueue<>(new SpscArrayQueue<>(capacity));
+    }
+
+    @Test(timeout = 60_000)
+    public void testTakeWaitsForElement() throws InterruptedException {
+        for (Supplier<WaitStrategy> waitStrategy : WAIT_STRATEGIES) {
+            BlockingQueue<Integer> queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(4), waitStrategy.get());
+            Thread producer = new Thread(() -> {
+                sleep(50);
+                queue.add(42);
+            });
+            producer.start();
+
+            assertEquals(42, queue.take().intValue());
+            producer.join();
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void testPutWaitsForFreeSpace() throws InterruptedException {
+        for (Supplier<WaitStrategy> waitStrategy : WAIT_STRATEGIES) {
+            BlockingQueue<Integer> queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(1), waitStrategy.get());
+            queue.put(1);
+            Thread consumer = new Thread(() -> {
+                sleep(50);
+                queue.poll();
+            });
+            consumer.start();
+
+            queue.put(2);
+            consumer.join();
+
+            assertEquals(2, queue.poll().intValue());
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void testTimedPollOnEmptyQueue() throws InterruptedException {
+        for (Supplier<WaitStrategy> waitStrategy : WAIT_STRATEGIES) {
+            BlockingQueue<Integer> queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(4), waitStrategy.get());
+            long start = System.nanoTime();
+
+            assertNull(queue.poll(20, TimeUnit.MILLISECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void testTimedOfferOnFullQueue() throws InterruptedException {
+        for (Supplier<WaitStrategy> waitStrategy : WAIT_STRATEGIES) {
+            BlockingQueue<Integer> queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(1), waitStrategy.get());
+            queue.add(1);
+
+            assertFalse(queue.offer(2, 20, TimeUnit.MILLISECONDS));
+            assertNotNull(queue.poll(0, TimeUnit.MILLISECONDS));
+            assertTrue(queue.offer(2, 20, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void testTakeIsInterrupted() throws InterruptedException {
+        for (Supplier<WaitStrategy> waitStrategy : WAIT_STRATEGIES) {
+            BlockingQueue<Integer> queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(4), waitStrategy.get());
+            AtomicReference<Throwable> thrown = new AtomicReference<>();
+            CountDownLatch started = new CountDownLatch(1);
+            Thread consumer = new Thread(() -> {
+                started.countDown();
+                try {
+                    queue.take();
+                } catch (Throwable e) {
+                    thrown.set(e);
+                }
+            });
+            consumer.start();
+            started.await();
+
+            consumer.interrupt();
+            consumer.join();
+
+            assertTrue(thrown.get() instanceof InterruptedException);
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void testPutAndTakeThreads() throws InterruptedException {
+        for (Supplier<WaitStrategy> waitStrategy : WAIT_STRATEGIES) {
+            BlockingQueue<Integer> queue = new BlockingBoundedQueue<>(new SpscArrayQueue<>(8), waitStrategy.get());
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 100_000; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(i, queue.take().intValue());
+            }
+            producer.join();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSpins() {
+        new SpinThenParkWaitStrategy(-1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
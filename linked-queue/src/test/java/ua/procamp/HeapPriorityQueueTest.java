@@ -0,0 +1,196 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class HeapPriorityQueueTest {
+
+    private HeapPriorityQueue<Integer> integerQueue = new HeapPriorityQueue<>(null);
+
+    @Test
+    public void testPollFromEmptyQueue() {
+        assertNull(integerQueue.poll());
+        assertNull(integerQueue.peek());
+        assertTrue(integerQueue.isEmpty());
+        assertEquals(0, integerQueue.size());
+    }
+
+    @Test
+    public void testPollSmallestElement() {
+        integerQueue.add(5);
+        integerQueue.add(1);
+        integerQueue.add(3);
+
+        assertEquals(3, integerQueue.size());
+        assertEquals(1, integerQueue.peek().intValue());
+        assertEquals(1, integerQueue.poll().intValue());
+        assertEquals(3, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    public void testComparator() {
+        HeapPriorityQueue<String> queue = new HeapPriorityQueue<>(Comparator.comparingInt(String::length).reversed());
+        queue.add("a");
+        queue.add("ccc");
+        queue.add("bb");
+
+        assertEquals("ccc", queue.poll());
+        assertEquals("bb", queue.poll());
+        assertEquals("a", queue.poll());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        integerQueue.add(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testArityLessThanTwo() {
+        new HeapPriorityQueue<Integer>(1, null);
+    }
+
+    @Test
+    public void testRandomElementsForDifferentArities() {
+        for (int arity : new int[]{2, 3, 4, 8}) {
+            HeapPriorityQueue<Integer> queue = new HeapPriorityQueue<>(arity, null);
+            List<Integer> elements = randomElements(10_000);
+            elements.forEach(queue::add);
+
+            assertEquals(sorted(elements), pollAll(queue));
+        }
+    }
+
+    @Test
+    public void testAddAndPollInterleaved() {
+        HeapPriorityQueue<Integer> queue = new HeapPriorityQueue<>(2, null);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.poll(), queue.poll());
+            } else {
+                int element = random.nextInt(1000);
+                queue.add(element);
+                expected.add(element);
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+    }
+
+    @Test
+    public void testFromCollection() {
+        for (int arity : new int[]{2, 4, 5}) {
+            List<Integer> elements = randomElements(10_000);
+
+            HeapPriorityQueue<Integer> queue = HeapPriorityQueue.from(elements, arity, null);
+
+            assertEquals(arity, queue.arity());
+            assertEquals(elements.size(), queue.size());
+            assertEquals(sorted(elements), pollAll(queue));
+        }
+    }
+
+    @Test
+    public void testFromEmptyCollection() {
+        HeapPriorityQueue<Integer> queue = HeapPriorityQueue.from(Collections.emptyList(), 4, null);
+
+        assertTrue(queue.isEmpty());
+        queue.add(1);
+        assertEquals(1, queue.poll().intValue());
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        integerQueue.add(10);
+        integerQueue.add(20);
+        HeapPriorityQueue.Handle<Integer> handle = integerQueue.addWithHandle(30);
+
+        handle.update(5);
+
+        assertEquals(5, handle.get().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertFalse(handle.isQueued());
+        assertEquals(10, integerQueue.poll().intValue());
+    }
+
+    @Test
+    public void testIncreaseKey() {
+        HeapPriorityQueue.Handle<Integer> handle = integerQueue.addWithHandle(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        handle.update(4);
+
+        assertEquals(Arrays.asList(2, 3, 4), pollAll(integerQueue));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUpdatePolledElement() {
+        HeapPriorityQueue.Handle<Integer> handle = integerQueue.addWithHandle(1);
+        integerQueue.poll();
+
+        handle.update(2);
+    }
+
+    @Test
+    public void testRandomUpdates() {
+        HeapPriorityQueue<Integer> queue = new HeapPriorityQueue<>(3, null);
+        Random random = new Random(11);
+        List<HeapPriorityQueue.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            handles.add(queue.addWithHandle(random.nextInt(10_000)));
+            queue.add(random.nextInt(10_000));
+        }
+        for (int i = 0; i < 2_000; i++) {
+            handles.get(random.nextInt(handles.size())).update(random.nextInt(10_000));
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (HeapPriorityQueue.Handle<Integer> handle : handles) {
+            expected.add(handle.get());
+        }
+
+        List<Integer> polled = pollAll(queue);
+
+        assertEquals(2_000, polled.size());
+        assertEquals(sorted(polled), polled);
+        assertTrue(polled.containsAll(expected));
+        handles.forEach(handle -> assertFalse(handle.isQueued()));
+    }
+
+    private static List<Integer> randomElements(int count) {
+        Random random = new Random(42);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(random.nextInt(count));
+        }
+        return elements;
+    }
+
+    private static List<Integer> sorted(List<Integer> elements) {
+        List<Integer> sorted = new ArrayList<>(elements);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static List<Integer> pollAll(Queue<Integer> queue) {
+        List<Integer> polled = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll());
+        }
+        return polled;
+    }
+}
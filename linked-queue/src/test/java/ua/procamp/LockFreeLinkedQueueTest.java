@@ -0,0 +1,143 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class LockFreeLinkedQueueTest extends QueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    @Override
+    protected <T> Queue<T> createQueue() {
+        return new LockFreeLinkedQueue<>();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        new LockFreeLinkedQueue<Integer>().add(null);
+    }
+
+    @Test
+    public void testAddAfterQueueBecameEmpty() {
+        Queue<Integer> queue = new LockFreeLinkedQueue<>();
+        queue.add(1);
+        queue.poll();
+
+        queue.add(2);
+
+        assertFalse(queue.isEmpty());
+        assertEquals(2, queue.poll().intValue());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    /**
+     * Every element is encoded as {@code producer * ELEMENTS_PER_PRODUCER + sequence}. Each element must be polled
+     * exactly once, and every consumer must see elements of the same producer in the order they were added.
+     */
+    @Test(timeout = 60_000)
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        Queue<Integer> queue = new LockFreeLinkedQueue<>();
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        AtomicInteger polled = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<BitSet> seen = new ArrayList<>();
+        List<AssertionError> errors = new ArrayList<>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    queue.add(producer * ELEMENTS_PER_PRODUCER + i);
+                }
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            BitSet consumed = new BitSet(total);
+            seen.add(consumed);
+            threads.add(new Thread(() -> {
+                int[] lastSequence = new int[PRODUCERS];
+                Arrays.fill(lastSequence, -1);
+                await(start);
+                while (polled.get() < total) {
+                    Integer element = queue.poll();
+                    if (element == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    polled.incrementAndGet();
+                    int producer = element / ELEMENTS_PER_PRODUCER;
+                    int sequence = element % ELEMENTS_PER_PRODUCER;
+                    if (sequence <= lastSequence[producer]) {
+                        synchronized (errors) {
+                            errors.add(new AssertionError(String.format("Producer %d: %d after %d",
+                                    producer, sequence, lastSequence[producer])));
+                        }
+                    }
+                    lastSequence[producer] = sequence;
+                    consumed.set(element);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(errors.toString(), errors.isEmpty());
+        BitSet all = new BitSet(total);
+        int count = 0;
+        for (BitSet consumed : seen) {
+            assertFalse("Element is polled twice", all.intersects(consumed));
+            all.or(consumed);
+            count += consumed.cardinality();
+        }
+        assertEquals(total, count);
+        assertEquals(total, all.cardinality());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test(timeout = 60_000)
+    public void testSizeIsExactAfterConcurrentAdds() throws InterruptedException {
+        Queue<Integer> queue = new LockFreeLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    queue.add(i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER, queue.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
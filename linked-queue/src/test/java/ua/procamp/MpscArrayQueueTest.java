@@ -0,0 +1,79 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class MpscArrayQueueTest extends SpscArrayQueueTest {
+    private static final int PRODUCERS = 4;
+
+    @Override
+    protected <T> BoundedQueue<T> createQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
+    /**
+     * Every element is encoded as {@code producer * ELEMENTS + sequence}. Each element must be polled exactly once, and
+     * elements of the same producer must come in the order they were added.
+     */
+    @Test(timeout = 60_000)
+    public void testConcurrentProducers() throws InterruptedException {
+        BoundedQueue<Integer> queue = createQueue(64);
+        int perProducer = ELEMENTS / PRODUCERS;
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; ) {
+                    int added;
+                    if (producer % 2 == 0) {
+                        added = queue.offer(producer * ELEMENTS + i) ? 1 : 0;
+                    } else {
+                        added = queue.offerAll(IntStream.range(i, Math.min(i + 4, perProducer))
+                                .mapToObj(sequence -> producer * ELEMENTS + sequence)
+                                .toArray(Integer[]::new));
+                    }
+                    if (added == 0) {
+                        Thread.yield();
+                    }
+                    i += added;
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+
+        BitSet seen = new BitSet();
+        int[] lastSequence = new int[PRODUCERS];
+        Arrays.fill(lastSequence, -1);
+        int polled = 0;
+        while (polled < perProducer * PRODUCERS) {
+            int drained = queue.drain(element -> {
+                int producer = element / ELEMENTS;
+                int sequence = element % ELEMENTS;
+                assertTrue(sequence > lastSequence[producer]);
+                lastSequence[producer] = sequence;
+                assertFalse(seen.get(element));
+                seen.set(element);
+            }, 16);
+            if (drained == 0) {
+                Thread.yield();
+            }
+            polled += drained;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(perProducer * PRODUCERS, seen.cardinality());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -9,7 +9,11 @@ import static org.junit.Assert.*;
 @RunWith(JUnit4.class)
 public class QueueTest {
 
-    private Queue<Integer> integerQueue = new LinkedQueue<>();
+    private Queue<Integer> integerQueue = createQueue();
+
+    protected <T> Queue<T> createQueue() {
+        return new LinkedQueue<>();
+    }
 
     @Test
     public void testAddElementIntoEmptyQueue() {
@@ -0,0 +1,137 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class SpscArrayQueueTest extends QueueTest {
+    static final int ELEMENTS = 1_000_000;
+
+    @Override
+    protected <T> Queue<T> createQueue() {
+        return createQueue(16);
+    }
+
+    protected <T> BoundedQueue<T> createQueue(int capacity) {
+        return new SpscArrayQueue<>(capacity);
+    }
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, createQueue(1).capacity());
+        assertEquals(8, createQueue(5).capacity());
+        assertEquals(8, createQueue(8).capacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroCapacity() {
+        createQueue(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfferNull() {
+        createQueue(4).offer(null);
+    }
+
+    @Test
+    public void testOfferToFullQueue() {
+        BoundedQueue<Integer> queue = createQueue(2);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertEquals(2, queue.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddToFullQueue() {
+        BoundedQueue<Integer> queue = createQueue(1);
+        queue.add(1);
+
+        queue.add(2);
+    }
+
+    @Test
+    public void testElementsWrapAround() {
+        BoundedQueue<Integer> queue = createQueue(4);
+
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+            queue.add(-i);
+            assertEquals(i, queue.poll().intValue());
+            assertEquals(-i, queue.poll().intValue());
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testOfferAllStopsWhenFull() {
+        BoundedQueue<Integer> queue = createQueue(4);
+        queue.add(0);
+
+        int added = queue.offerAll(new Integer[]{1, 2, 3, 4, 5});
+
+        assertEquals(3, added);
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.offerAll(new Integer[]{6}));
+    }
+
+    @Test
+    public void testDrainRespectsLimit() {
+        BoundedQueue<Integer> queue = createQueue(8);
+        queue.offerAll(new Integer[]{1, 2, 3, 4, 5});
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(3, queue.drain(drained::add, 3));
+        assertEquals(2, queue.drain(drained::add, 10));
+        assertEquals(0, queue.drain(drained::add, 10));
+
+        assertEquals(List.of(1, 2, 3, 4, 5), drained);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testDrainFreesSpace() {
+        BoundedQueue<Integer> queue = createQueue(2);
+        queue.offerAll(new Integer[]{1, 2});
+
+        queue.drain(element -> {
+        }, 2);
+
+        assertEquals(2, queue.offerAll(new Integer[]{3, 4}));
+        assertEquals(3, queue.poll().intValue());
+    }
+
+    @Test(timeout = 60_000)
+    public void testProducerAndConsumerThreads() throws InterruptedException {
+        BoundedQueue<Integer> queue = createQueue(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < ELEMENTS) {
+            Integer element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+            } else {
+                assertEquals(expected++, element.intValue());
+            }
+        }
+        producer.join();
+
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,13 @@
+package ua.procamp;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class SynchronizedQueueTest extends QueueTest {
+
+    @Override
+    protected <T> Queue<T> createQueue() {
+        return new SynchronizedQueue<>(new LinkedQueue<>());
+    }
+}
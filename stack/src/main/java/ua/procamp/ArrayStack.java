@@ -0,0 +1,205 @@
+package ua.procamp;
+
+import ua.procamp.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link ArrayStack} implements LIFO {@link Stack} using a growable array, so
+ * {@link ArrayStack#push(Object)} and {@link ArrayStack#pop()} do not allocate nodes. When the array is full, it grows
+ * by half of its length, so a push takes amortized constant time, and a popped slot is cleared, so the stack does not
+ * keep references to popped elements. Popping an empty stack throws {@link EmptyStackException}.
+ * <p>
+ * A stack created with shrinking enabled halves the array when it becomes a quarter full. The gap between the two
+ * thresholds means that pushing and popping around one size does not resize the array back and forth.
+ * <p>
+ * An iterator is fail-fast: it throws {@link ConcurrentModificationException} if the stack is changed after the
+ * iterator was created.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private final int minCapacity;
+	private final boolean shrink;
+	private Object[] elements;
+	private int size;
+	private int modCount;
+
+	/**
+	 * Creates an empty stack, that never shrinks.
+	 */
+	public ArrayStack() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * Creates an empty stack. Throws {@link IllegalArgumentException} if capacity is negative.
+	 *
+	 * @param initialCapacity an initial capacity, and the capacity below which the stack never shrinks
+	 * @param shrink          {@code true} to release memory when the stack becomes a quarter full
+	 */
+	public ArrayStack(int initialCapacity, boolean shrink) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException(String.format("Illegal capacity: %d", initialCapacity));
+		}
+		this.minCapacity = initialCapacity;
+		this.shrink = shrink;
+		this.elements = new Object[initialCapacity];
+	}
+
+	@Override
+	public void push(T element) {
+		if (size == elements.length) {
+			resize(grownCapacity());
+		}
+		elements[size++] = element;
+		modCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pop() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		T element = (T) elements[--size];
+		elements[size] = null;
+		modCount++;
+		shrinkIfSparse();
+		return element;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peek() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		return (T) elements[size - 1];
+	}
+
+	/**
+	 * Pushes all elements in their iteration order. When elements are a {@link Collection}, the array grows at most
+	 * once.
+	 *
+	 * @param elements elements to add
+	 */
+	@Override
+	public void pushAll(Iterable<? extends T> elements) {
+		if (elements instanceof Collection) {
+			int required = size + ((Collection<?>) elements).size();
+			if (required < 0) {
+				throw new OutOfMemoryError("Stack is too large");
+			}
+			if (required > this.elements.length) {
+				resize(Math.max(required, grownCapacity()));
+			}
+		}
+		for (T element : elements) {
+			push(element);
+		}
+	}
+
+	/**
+	 * Removes up to {@code n} elements from the top of the array, clearing their slots, and shrinks the array at most
+	 * once. Elements that were passed to the action are removed even if the action throws an exception.
+	 *
+	 * @param n      a maximum number of elements to remove
+	 * @param action an action to perform on every removed element
+	 * @return a number of removed elements
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int popN(int n, Consumer<? super T> action) {
+		if (n < 0) {
+			throw new IllegalArgumentException(String.format("Number of elements must not be negative: %d", n));
+		}
+		Objects.requireNonNull(action);
+		int popped = 0;
+		try {
+			while (popped < n && size > 0) {
+				T element = (T) elements[--size];
+				elements[size] = null;
+				popped++;
+				action.accept(element);
+			}
+		} finally {
+			if (popped > 0) {
+				modCount++;
+				shrinkIfSparse();
+			}
+		}
+		return popped;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private final int expectedModCount = modCount;
+			private int cursor = size;
+
+			@Override
+			public boolean hasNext() {
+				return cursor > 0;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (cursor == 0) {
+					throw new NoSuchElementException();
+				}
+				return (T) elements[--cursor];
+			}
+		};
+	}
+
+	/**
+	 * Returns the length of the backing array.
+	 *
+	 * @return the number of elements the stack can hold without growing
+	 */
+	public int capacity() {
+		return elements.length;
+	}
+
+	private int grownCapacity() {
+		int capacity = elements.length;
+		if (capacity == Integer.MAX_VALUE) {
+			throw new OutOfMemoryError("Stack is too large");
+		}
+		long grownCapacity = capacity + (long) (capacity >> 1);
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(grownCapacity, DEFAULT_CAPACITY));
+	}
+
+	private void shrinkIfSparse() {
+		if (shrink && size < elements.length / 4 && elements.length > minCapacity) {
+			resize(Math.max(elements.length / 2, minCapacity));
+		}
+	}
+
+	private void resize(int capacity) {
+		elements = Arrays.copyOf(elements, capacity);
+	}
+}
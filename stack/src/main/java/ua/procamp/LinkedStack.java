@@ -1,25 +1,137 @@
 package ua.procamp;
 
+import ua.procamp.exception.EmptyStackException;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link LinkedStack} implements LIFO {@link Stack} using singly linked nodes. It keeps a reference to the top node, so
+ * {@link LinkedStack#push(Object)} and {@link LinkedStack#pop()} are performed in constant time. Popping an empty stack
+ * throws {@link EmptyStackException}.
+ * <p>
+ * Nodes are never changed after they are linked, so an iterator walks the nodes that were in the stack when it was
+ * created, and is not affected by later pushes and pops.
+ *
+ * @param <T> a generic parameter
+ */
 public class LinkedStack<T> implements Stack<T> {
+	private Node<T> head;
+	private int size;
 
 	@Override
 	public void push(T element) {
-		throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+		head = new Node<>(element, head);
+		size++;
 	}
 
 	@Override
 	public T pop() {
-		throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+		if (head == null) {
+			throw new EmptyStackException();
+		}
+		T element = head.value;
+		head = head.next;
+		size--;
+		return element;
+	}
+
+	@Override
+	public T peek() {
+		if (head == null) {
+			throw new EmptyStackException();
+		}
+		return head.value;
+	}
+
+	/**
+	 * Links new nodes on top of the stack one by one, and updates the size once.
+	 *
+	 * @param elements elements to add
+	 */
+	@Override
+	public void pushAll(Iterable<? extends T> elements) {
+		Node<T> top = head;
+		int count = 0;
+		for (T element : elements) {
+			top = new Node<>(element, top);
+			count++;
+		}
+		head = top;
+		size += count;
+	}
+
+	/**
+	 * Walks up to {@code n} nodes from the head, and unlinks them all at once. Elements that were passed to the action
+	 * are removed even if the action throws an exception.
+	 *
+	 * @param n      a maximum number of elements to remove
+	 * @param action an action to perform on every removed element
+	 * @return a number of removed elements
+	 */
+	@Override
+	public int popN(int n, Consumer<? super T> action) {
+		if (n < 0) {
+			throw new IllegalArgumentException(String.format("Number of elements must not be negative: %d", n));
+		}
+		Objects.requireNonNull(action);
+		Node<T> node = head;
+		int popped = 0;
+		try {
+			while (popped < n && node != null) {
+				T element = node.value;
+				node = node.next;
+				popped++;
+				action.accept(element);
+			}
+		} finally {
+			head = node;
+			size -= popped;
+		}
+		return popped;
 	}
 
 	@Override
 	public int size() {
-		throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+		return size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+		return head == null;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node<T> next = head;
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public T next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				T element = next.value;
+				next = next.next;
+				return element;
+			}
+		};
+	}
+
+	private static class Node<T> {
+		private final T value;
+		private final Node<T> next;
+
+		Node(T value, Node<T> next) {
+			this.value = value;
+			this.next = next;
+		}
 	}
 }
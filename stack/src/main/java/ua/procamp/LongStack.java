@@ -0,0 +1,101 @@
+package ua.procamp;
+
+import ua.procamp.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+/**
+ * {@link LongStack} is a LIFO stack of primitive {@code long} values. Values are stored in a growable {@code long[]}, so
+ * pushing does not box values and does not allocate anything unless the array grows. Popping an empty stack throws
+ * {@link EmptyStackException}.
+ */
+public class LongStack {
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private long[] elements;
+	private int size;
+
+	/**
+	 * Creates an empty stack.
+	 */
+	public LongStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty stack that can hold provided number of values without growing. Throws
+	 * {@link IllegalArgumentException} if capacity is negative.
+	 *
+	 * @param initialCapacity an initial capacity
+	 */
+	public LongStack(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException(String.format("Illegal capacity: %d", initialCapacity));
+		}
+		elements = new long[initialCapacity];
+	}
+
+	/**
+	 * Adds a value to the top of the stack.
+	 *
+	 * @param value the value to add
+	 */
+	public void push(long value) {
+		if (size == elements.length) {
+			grow();
+		}
+		elements[size++] = value;
+	}
+
+	/**
+	 * Retrieves and removes the top value.
+	 *
+	 * @return the top value
+	 */
+	public long pop() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		return elements[--size];
+	}
+
+	/**
+	 * Retrieves the top value without removing it.
+	 *
+	 * @return the top value
+	 */
+	public long peek() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		return elements[size - 1];
+	}
+
+	/**
+	 * Returns a size of the stack.
+	 *
+	 * @return an integer value that is a size of stack
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the stack is empty.
+	 *
+	 * @return {@code true} if the stack is empty, returns {@code false} if it's not
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void grow() {
+		int capacity = elements.length;
+		if (capacity == Integer.MAX_VALUE) {
+			throw new OutOfMemoryError("Stack is too large");
+		}
+		long grownCapacity = capacity + (long) (capacity >> 1);
+		int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(grownCapacity, DEFAULT_CAPACITY));
+		elements = Arrays.copyOf(elements, newCapacity);
+	}
+}
@@ -1,10 +1,14 @@
 package ua.procamp;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
 /**
  *
  * Stack is a data structure that follows "last in, first out" rule (LIFO).
  */
-public interface Stack<T> {
+public interface Stack<T> extends Iterable<T> {
     /**
      * Adds an element to the begining of the stack.
      *
@@ -19,6 +23,14 @@ public interface Stack<T> {
      */
     T pop();
 
+    /**
+     * Retrieves stack head without removing it. Throws {@link ua.procamp.exception.EmptyStackException} if the stack is
+     * empty.
+     *
+     * @return an element at the head of the stack
+     */
+    T peek();
+
     /**
      * Returns a size of the stack.
      *
@@ -32,4 +44,54 @@ public interface Stack<T> {
      * @return {@code true} if the stack is empty, returns {@code false} if it's not
      */
     boolean isEmpty();
+
+    /**
+     * Returns an iterator over the stack elements from the head to the bottom. The iterator does not support
+     * {@link Iterator#remove()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * Pushes all elements in their iteration order, so the last element becomes the head of the stack.
+     *
+     * @param elements elements to add
+     */
+    default void pushAll(Iterable<? extends T> elements) {
+        for (T element : elements) {
+            push(element);
+        }
+    }
+
+    /**
+     * Retrieves and removes up to {@code n} elements from the head of the stack, and passes them to the action in the
+     * order they are removed. Throws {@link IllegalArgumentException} if {@code n} is negative.
+     *
+     * @param n      a maximum number of elements to remove
+     * @param action an action to perform on every removed element
+     * @return a number of removed elements
+     */
+    default int popN(int n, Consumer<? super T> action) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("Number of elements must not be negative: %d", n));
+        }
+        int popped = 0;
+        while (popped < n && !isEmpty()) {
+            action.accept(pop());
+            popped++;
+        }
+        return popped;
+    }
+
+    /**
+     * Removes all elements and adds them to the collection from the head to the bottom.
+     *
+     * @param collection a collection to add elements to
+     * @return a number of removed elements
+     */
+    default int drainTo(Collection<? super T> collection) {
+        return popN(Integer.MAX_VALUE, collection::add);
+    }
 }
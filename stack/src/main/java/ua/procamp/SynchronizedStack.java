@@ -0,0 +1,72 @@
+package ua.procamp;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link SynchronizedStack} makes any {@link Stack} thread-safe by guarding every operation with the monitor of the
+ * wrapper. Only one thread works with the stack at a time, so under contention threads wait for each other; use
+ * {@link TreiberStack} when the stack is shared by many threads. Bulk operations hold the monitor for the whole batch.
+ * An iterator is not synchronized, so a thread must hold the monitor of the wrapper while it iterates.
+ *
+ * @param <T> a generic parameter
+ */
+public class SynchronizedStack<T> implements Stack<T> {
+	private final Stack<T> stack;
+
+	/**
+	 * Creates a wrapper of provided stack. The stack must not be accessed directly after it is wrapped.
+	 *
+	 * @param stack a stack to wrap
+	 */
+	public SynchronizedStack(Stack<T> stack) {
+		this.stack = Objects.requireNonNull(stack);
+	}
+
+	@Override
+	public synchronized void push(T element) {
+		stack.push(element);
+	}
+
+	@Override
+	public synchronized T pop() {
+		return stack.pop();
+	}
+
+	@Override
+	public synchronized T peek() {
+		return stack.peek();
+	}
+
+	@Override
+	public synchronized void pushAll(Iterable<? extends T> elements) {
+		stack.pushAll(elements);
+	}
+
+	@Override
+	public synchronized int popN(int n, Consumer<? super T> action) {
+		return stack.popN(n, action);
+	}
+
+	@Override
+	public synchronized int drainTo(Collection<? super T> collection) {
+		return stack.drainTo(collection);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return stack.iterator();
+	}
+
+	@Override
+	public synchronized int size() {
+		return stack.size();
+	}
+
+	@Override
+	public synchronized boolean isEmpty() {
+		return stack.isEmpty();
+	}
+}
@@ -0,0 +1,297 @@
+package ua.procamp;
+
+import ua.procamp.exception.EmptyStackException;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link TreiberStack} implements LIFO {@link Stack}, that can be shared by many threads without locks. It is the
+ * Treiber stack: singly linked nodes, where {@link TreiberStack#push(Object)} and {@link TreiberStack#pop()} replace
+ * the top node with compare-and-set. Popping an empty stack throws {@link EmptyStackException}.
+ * <p>
+ * All threads compete for the same top node, so under load most compare-and-set attempts fail. A stack created with
+ * elimination slots lets a thread, which lost the race, meet a thread doing the opposite operation instead of retrying
+ * at once: a pushing thread leaves its node in a random slot for a short time, and a popping thread that finds a node
+ * in a slot takes it. Such a pair cancels out without touching the top node, so more threads complete more pairs.
+ * <p>
+ * The size is kept in a striped {@link LongAdder}. {@link TreiberStack#size()} is exact when no operation is in
+ * progress, and is an estimate while other threads push or pop elements.
+ * <p>
+ * Bulk operations are atomic: {@link TreiberStack#pushAll(Iterable)} links a chain of nodes and puts it on top with a
+ * single compare-and-set, and {@link TreiberStack#popN(int, Consumer)} cuts a chain off the top the same way. A node
+ * is never put back on the stack once it is removed, which keeps compare-and-set on the head free of the ABA problem.
+ * An iterator walks the nodes that were in the stack when it was created.
+ *
+ * @param <T> a generic parameter
+ */
+public class TreiberStack<T> implements Stack<T> {
+	private static final int ELIMINATION_SPINS = 64;
+
+	private final AtomicReference<Node<T>> head = new AtomicReference<>();
+	private final AtomicReferenceArray<Node<T>> eliminationSlots;
+	private final LongAdder size = new LongAdder();
+
+	/**
+	 * Creates an empty stack without elimination.
+	 */
+	public TreiberStack() {
+		this(0);
+	}
+
+	/**
+	 * Creates an empty stack with provided number of elimination slots. A slot per pair of threads, that use the stack
+	 * at the same time, is a good start. Throws {@link IllegalArgumentException} if the number is negative.
+	 *
+	 * @param eliminationSlots a number of elimination slots, or 0 to disable elimination
+	 */
+	public TreiberStack(int eliminationSlots) {
+		if (eliminationSlots < 0) {
+			throw new IllegalArgumentException(String.format("Elimination slots must not be negative: %d",
+					eliminationSlots));
+		}
+		this.eliminationSlots = eliminationSlots > 0 ? new AtomicReferenceArray<>(eliminationSlots) : null;
+	}
+
+	@Override
+	public void push(T element) {
+		Node<T> node = new Node<>(element);
+		while (true) {
+			Node<T> top = head.get();
+			node.next = top;
+			if (head.compareAndSet(top, node) || eliminationSlots != null && eliminatePush(node)) {
+				size.increment();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Links all elements into a chain, and puts the whole chain on top of the stack with a single compare-and-set, so
+	 * other threads see either none or all of the elements.
+	 *
+	 * @param elements elements to add
+	 */
+	@Override
+	public void pushAll(Iterable<? extends T> elements) {
+		Node<T> top = null;
+		Node<T> bottom = null;
+		int count = 0;
+		for (T element : elements) {
+			Node<T> node = new Node<>(element);
+			node.next = top;
+			top = node;
+			if (bottom == null) {
+				bottom = node;
+			}
+			count++;
+		}
+		if (count > 0) {
+			pushChain(top, bottom, count);
+		}
+	}
+
+	@Override
+	public T pop() {
+		while (true) {
+			Node<T> top = head.get();
+			if (top == null) {
+				throw new EmptyStackException();
+			}
+			if (head.compareAndSet(top, top.next)) {
+				size.decrement();
+				return top.value;
+			}
+			if (eliminationSlots != null) {
+				Node<T> node = eliminatePop();
+				if (node != null) {
+					size.decrement();
+					return node.value;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Cuts up to {@code n} nodes off the top of the stack with a single compare-and-set, and then passes their elements
+	 * to the action. If the action throws an exception, elements that were not passed to it are pushed back.
+	 *
+	 * @param n      a maximum number of elements to remove
+	 * @param action an action to perform on every removed element
+	 * @return a number of removed elements
+	 */
+	@Override
+	public int popN(int n, Consumer<? super T> action) {
+		if (n < 0) {
+			throw new IllegalArgumentException(String.format("Number of elements must not be negative: %d", n));
+		}
+		Objects.requireNonNull(action);
+		Node<T> top;
+		Node<T> rest;
+		int popped;
+		do {
+			top = head.get();
+			rest = top;
+			popped = 0;
+			while (popped < n && rest != null) {
+				rest = rest.next;
+				popped++;
+			}
+		} while (popped > 0 && !head.compareAndSet(top, rest));
+		size.add(-popped);
+		consume(top, rest, action);
+		return popped;
+	}
+
+	/**
+	 * Takes all nodes off the stack with a single atomic swap of the head. If the collection throws an exception,
+	 * elements that were not added to it are pushed back.
+	 *
+	 * @param collection a collection to add elements to
+	 * @return a number of removed elements
+	 */
+	@Override
+	public int drainTo(Collection<? super T> collection) {
+		Objects.requireNonNull(collection);
+		Node<T> top = head.getAndSet(null);
+		int count = 0;
+		for (Node<T> node = top; node != null; node = node.next) {
+			count++;
+		}
+		size.add(-count);
+		consume(top, null, collection::add);
+		return count;
+	}
+
+	@Override
+	public T peek() {
+		Node<T> top = head.get();
+		if (top == null) {
+			throw new EmptyStackException();
+		}
+		return top.value;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node<T> next = head.get();
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public T next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				T element = next.value;
+				next = next.next;
+				return element;
+			}
+		};
+	}
+
+	/**
+	 * Returns a size of the stack. The size is exact when no other thread changes the stack, otherwise it is an
+	 * estimate.
+	 *
+	 * @return an integer value that is a size of stack
+	 */
+	@Override
+	public int size() {
+		long sum = size.sum();
+		return (int) Math.max(0, Math.min(sum, Integer.MAX_VALUE));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return head.get() == null;
+	}
+
+	private void pushChain(Node<T> top, Node<T> bottom, int count) {
+		Node<T> current;
+		do {
+			current = head.get();
+			bottom.next = current;
+		} while (!head.compareAndSet(current, top));
+		size.add(count);
+	}
+
+	/**
+	 * Passes elements of a chain, that is already cut off the stack, to the action. If the action throws, the rest of
+	 * the elements is pushed back in the same order. They are pushed in new nodes: another thread may still hold a node
+	 * of the cut chain and compare the head with it, so putting the same node back on the stack would let that
+	 * compare-and-set succeed with a stale next node (the ABA problem).
+	 */
+	private void consume(Node<T> top, Node<T> end, Consumer<? super T> action) {
+		Node<T> node = top;
+		try {
+			for (; node != end; node = node.next) {
+				action.accept(node.value);
+			}
+		} catch (RuntimeException | Error e) {
+			Node<T> rest = node.next;
+			if (rest != end) {
+				Node<T> copyTop = new Node<>(rest.value);
+				Node<T> copyBottom = copyTop;
+				int count = 1;
+				for (Node<T> next = rest.next; next != end; next = next.next) {
+					copyBottom.next = new Node<>(next.value);
+					copyBottom = copyBottom.next;
+					count++;
+				}
+				pushChain(copyTop, copyBottom, count);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Offers a node in a random free slot, and waits for a popping thread to take it. The node is taken if it cannot
+	 * be withdrawn from the slot.
+	 */
+	private boolean eliminatePush(Node<T> node) {
+		int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+		if (!eliminationSlots.compareAndSet(slot, null, node)) {
+			return false;
+		}
+		for (int i = 0; i < ELIMINATION_SPINS; i++) {
+			if (eliminationSlots.get(slot) != node) {
+				return true;
+			}
+			Thread.onSpinWait();
+		}
+		return !eliminationSlots.compareAndSet(slot, node, null);
+	}
+
+	/**
+	 * Takes a node offered by a pushing thread from a random slot, if there is one.
+	 */
+	private Node<T> eliminatePop() {
+		int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+		Node<T> node = eliminationSlots.get(slot);
+		if (node != null && eliminationSlots.compareAndSet(slot, node, null)) {
+			return node;
+		}
+		return null;
+	}
+
+	private static class Node<T> {
+		private final T value;
+		private Node<T> next;
+
+		Node(T value) {
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(JUnit4.class)
+public class ArrayStackTest extends StackTest {
+
+	@Override
+	protected <T> Stack<T> createStack() {
+		return new ArrayStack<>();
+	}
+
+	@Test
+	public void testPushBeyondInitialCapacity() {
+		ArrayStack<Integer> stack = new ArrayStack<>(0, false);
+		for (int i = 0; i < 100; i++) {
+			stack.push(i);
+		}
+
+		for (int i = 99; i >= 0; i--) {
+			assertThat(stack.pop(), is(i));
+		}
+		assertThat(stack.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testStackDoesNotShrinkByDefault() {
+		ArrayStack<Integer> stack = new ArrayStack<>();
+		for (int i = 0; i < 1000; i++) {
+			stack.push(i);
+		}
+		int capacity = stack.capacity();
+
+		while (!stack.isEmpty()) {
+			stack.pop();
+		}
+
+		assertThat(stack.capacity(), is(capacity));
+	}
+
+	@Test
+	public void testStackShrinksToInitialCapacity() {
+		ArrayStack<Integer> stack = new ArrayStack<>(16, true);
+		for (int i = 0; i < 1000; i++) {
+			stack.push(i);
+		}
+
+		while (!stack.isEmpty()) {
+			stack.pop();
+		}
+
+		assertThat(stack.capacity(), is(16));
+	}
+
+	@Test
+	public void testShrinkHysteresis() {
+		ArrayStack<Integer> stack = new ArrayStack<>(16, true);
+		for (int i = 0; i < 64; i++) {
+			stack.push(i);
+		}
+		int capacity = stack.capacity();
+
+		for (int i = 0; i < 100; i++) {
+			stack.pop();
+			stack.push(i);
+		}
+
+		assertThat(stack.capacity(), is(capacity));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeCapacity() {
+		new ArrayStack<>(-1, false);
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void testIteratorFailsOnModification() {
+		ArrayStack<Integer> stack = new ArrayStack<>();
+		stack.pushAll(Arrays.asList(1, 2, 3));
+		Iterator<Integer> iterator = stack.iterator();
+		iterator.next();
+
+		stack.push(4);
+		iterator.next();
+	}
+
+	@Test
+	public void testPushAllGrowsOnce() {
+		ArrayStack<Integer> stack = new ArrayStack<>(4, false);
+
+		stack.pushAll(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+
+		assertThat(stack.capacity(), is(20));
+		assertThat(stack.peek(), is(20));
+	}
+}
@@ -0,0 +1,69 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import ua.procamp.exception.EmptyStackException;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(JUnit4.class)
+public class IntStackTest {
+	private IntStack stack = new IntStack();
+
+	@Test(expected = EmptyStackException.class)
+	public void testPopFromEmptyStack() {
+		stack.pop();
+	}
+
+	@Test
+	public void testPushAndPop() {
+		stack.push(23);
+		stack.push(35);
+		stack.push(72);
+
+		assertThat(stack.pop(), is(72));
+		assertThat(stack.pop(), is(35));
+		assertThat(stack.size(), is(1));
+	}
+
+	@Test
+	public void testPeek() {
+		stack.push(7);
+		stack.push(9);
+
+		assertThat(stack.peek(), is(9));
+		assertThat(stack.size(), is(2));
+	}
+
+	@Test(expected = EmptyStackException.class)
+	public void testPeekOnEmptyStack() {
+		stack.peek();
+	}
+
+	@Test
+	public void testPushBeyondInitialCapacity() {
+		stack = new IntStack(0);
+		for (int i = 0; i < 1000; i++) {
+			stack.push(i);
+		}
+
+		assertThat(stack.size(), is(1000));
+		for (int i = 999; i >= 0; i--) {
+			assertThat(stack.pop(), is(i));
+		}
+		assertThat(stack.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testIsEmptyOnEmptyStack() {
+		assertThat(stack.isEmpty(), is(true));
+		assertThat(stack.size(), is(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeCapacity() {
+		new IntStack(-1);
+	}
+}
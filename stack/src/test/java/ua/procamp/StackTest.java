@@ -5,12 +5,23 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import ua.procamp.exception.EmptyStackException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 @RunWith(JUnit4.class)
 public class StackTest {
-	private Stack<Integer> intStack = new LinkedStack<>();
+	private Stack<Integer> intStack = createStack();
+
+	protected <T> Stack<T> createStack() {
+		return new LinkedStack<>();
+	}
 
 	@Test
 	public void testPushElementOntoEmptyStack() {
@@ -81,4 +92,110 @@ public class StackTest {
 
 		assertThat(stackEmpty, is(true));
 	}
+
+	@Test
+	public void testPeek() {
+		intStack.push(1);
+		intStack.push(2);
+
+		assertThat(intStack.peek(), is(2));
+		assertThat(intStack.size(), is(2));
+	}
+
+	@Test(expected = EmptyStackException.class)
+	public void testPeekOnEmptyStack() {
+		intStack.peek();
+	}
+
+	@Test
+	public void testPushAll() {
+		intStack.push(1);
+
+		intStack.pushAll(Arrays.asList(2, 3, 4));
+
+		assertThat(intStack.size(), is(4));
+		assertThat(intStack.pop(), is(4));
+		assertThat(intStack.pop(), is(3));
+	}
+
+	@Test
+	public void testPopN() {
+		intStack.pushAll(Arrays.asList(1, 2, 3, 4, 5));
+		List<Integer> popped = new ArrayList<>();
+
+		int count = intStack.popN(3, popped::add);
+
+		assertThat(count, is(3));
+		assertThat(popped, is(Arrays.asList(5, 4, 3)));
+		assertThat(intStack.size(), is(2));
+		assertThat(intStack.peek(), is(2));
+	}
+
+	@Test
+	public void testPopNMoreThanSize() {
+		intStack.pushAll(Arrays.asList(1, 2));
+		List<Integer> popped = new ArrayList<>();
+
+		int count = intStack.popN(10, popped::add);
+
+		assertThat(count, is(2));
+		assertThat(popped, is(Arrays.asList(2, 1)));
+		assertThat(intStack.isEmpty(), is(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPopNNegative() {
+		intStack.popN(-1, element -> {
+		});
+	}
+
+	@Test
+	public void testPopNKeepsElementsWhenActionFails() {
+		intStack.pushAll(Arrays.asList(1, 2, 3, 4, 5));
+
+		try {
+			intStack.popN(5, element -> {
+				if (element == 3) {
+					throw new IllegalStateException();
+				}
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			assertThat(intStack.size(), is(2));
+			assertThat(intStack.pop(), is(2));
+			assertThat(intStack.pop(), is(1));
+		}
+	}
+
+	@Test
+	public void testDrainTo() {
+		intStack.pushAll(Arrays.asList(1, 2, 3));
+		List<Integer> drained = new ArrayList<>();
+
+		int count = intStack.drainTo(drained);
+
+		assertThat(count, is(3));
+		assertThat(drained, is(Arrays.asList(3, 2, 1)));
+		assertThat(intStack.isEmpty(), is(true));
+		assertThat(intStack.size(), is(0));
+	}
+
+	@Test
+	public void testIteratorFromHeadToBottom() {
+		intStack.pushAll(Arrays.asList(1, 2, 3));
+		List<Integer> elements = new ArrayList<>();
+
+		intStack.forEach(elements::add);
+
+		assertThat(elements, is(Arrays.asList(3, 2, 1)));
+		assertThat(intStack.size(), is(3));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testIteratorOnEmptyStack() {
+		Iterator<Integer> iterator = intStack.iterator();
+
+		assertThat(iterator.hasNext(), is(false));
+		iterator.next();
+	}
 }
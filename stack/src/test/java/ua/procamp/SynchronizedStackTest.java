@@ -0,0 +1,13 @@
+package ua.procamp;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class SynchronizedStackTest extends StackTest {
+
+	@Override
+	protected <T> Stack<T> createStack() {
+		return new SynchronizedStack<>(new LinkedStack<>());
+	}
+}
@@ -0,0 +1,175 @@
+package ua.procamp;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import ua.procamp.exception.EmptyStackException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(JUnit4.class)
+public class TreiberStackTest extends StackTest {
+	private static final int THREADS = 4;
+	private static final int ELEMENTS_PER_THREAD = 100_000;
+
+	@Override
+	protected <T> Stack<T> createStack() {
+		return new TreiberStack<>(2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeEliminationSlots() {
+		new TreiberStack<>(-1);
+	}
+
+	@Test(timeout = 60_000)
+	public void testConcurrentPushAndPopWithoutElimination() throws InterruptedException {
+		testConcurrentPushAndPop(new TreiberStack<>());
+	}
+
+	@Test(timeout = 60_000)
+	public void testConcurrentPushAndPopWithElimination() throws InterruptedException {
+		testConcurrentPushAndPop(new TreiberStack<>(THREADS / 2));
+	}
+
+	@Test(timeout = 60_000)
+	public void testConcurrentPushesThenPops() throws InterruptedException {
+		Stack<Integer> stack = new TreiberStack<>(THREADS / 2);
+		runThreads(thread -> {
+			for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+				stack.push(thread * ELEMENTS_PER_THREAD + i);
+			}
+		});
+
+		assertThat(stack.size(), is(THREADS * ELEMENTS_PER_THREAD));
+		BitSet popped = new BitSet();
+		while (!stack.isEmpty()) {
+			popped.set(stack.pop());
+		}
+		assertThat(popped.cardinality(), is(THREADS * ELEMENTS_PER_THREAD));
+	}
+
+	/**
+	 * Half of the threads cut two elements with {@link Stack#popN(int, java.util.function.Consumer)} and fail on the
+	 * first one, so the second one is pushed back, while the other half pops elements one by one. Every element must be
+	 * removed exactly once.
+	 */
+	@Test(timeout = 60_000)
+	public void testConcurrentFailingPopNAndPop() throws InterruptedException {
+		Stack<Integer> stack = new TreiberStack<>();
+		List<BitSet> popped = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			popped.add(new BitSet());
+		}
+		runThreads(thread -> {
+			BitSet elements = popped.get(thread);
+			for (int i = 0; i < ELEMENTS_PER_THREAD; i += 2) {
+				int element = thread * ELEMENTS_PER_THREAD + i;
+				if (thread % 2 == 0) {
+					stack.push(element);
+					stack.push(element + 1);
+					try {
+						stack.popN(2, e -> {
+							elements.set(e);
+							throw new IllegalStateException();
+						});
+					} catch (IllegalStateException e) {
+						// the second element is pushed back
+					}
+				} else {
+					stack.push(element);
+					elements.set(popUntilSuccess(stack));
+					stack.push(element + 1);
+					elements.set(popUntilSuccess(stack));
+				}
+			}
+		});
+
+		BitSet all = new BitSet();
+		for (BitSet elements : popped) {
+			assertThat("Element is popped twice", all.intersects(elements), is(false));
+			all.or(elements);
+		}
+		while (!stack.isEmpty()) {
+			int element = stack.pop();
+			assertThat("Element is popped twice", all.get(element), is(false));
+			all.set(element);
+		}
+		assertThat(all.cardinality(), is(THREADS * ELEMENTS_PER_THREAD));
+	}
+
+	/**
+	 * Every thread pushes its own elements and pops as many elements as it has pushed. Every element must be popped
+	 * exactly once, and the stack must be empty at the end.
+	 */
+	private void testConcurrentPushAndPop(Stack<Integer> stack) throws InterruptedException {
+		List<BitSet> popped = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			popped.add(new BitSet());
+		}
+		runThreads(thread -> {
+			BitSet elements = popped.get(thread);
+			for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+				stack.push(thread * ELEMENTS_PER_THREAD + i);
+				if (i % 2 == 1) {
+					elements.set(popUntilSuccess(stack));
+					elements.set(popUntilSuccess(stack));
+				}
+			}
+		});
+
+		BitSet all = new BitSet();
+		for (BitSet elements : popped) {
+			assertThat("Element is popped twice", all.intersects(elements), is(false));
+			all.or(elements);
+		}
+		assertThat(all.cardinality(), is(THREADS * ELEMENTS_PER_THREAD));
+		assertThat(stack.isEmpty(), is(true));
+		assertThat(stack.size(), is(0));
+	}
+
+	/**
+	 * Another thread may pop elements pushed by this one, so the stack may be empty for a moment.
+	 */
+	private static int popUntilSuccess(Stack<Integer> stack) {
+		while (true) {
+			try {
+				return stack.pop();
+			} catch (EmptyStackException e) {
+				Thread.yield();
+			}
+		}
+	}
+
+	private static void runThreads(ThreadBody body) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int thread = t;
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				body.run(thread);
+			}));
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	private interface ThreadBody {
+		void run(int thread);
+	}
+}